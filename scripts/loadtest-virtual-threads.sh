@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 모드 vs 가상 스레드 모드 부하 비교
+# 같은 힙 크기(HEAP, 기본 256m)로 두 모드를 차례로 띄워 CalculationLoadTest를 실행합니다.
+#
+# 사용법: JAVA_HOME=/path/to/jdk21 scripts/loadtest-virtual-threads.sh [동시 요청 수] [시간(초)] [calculate|multi|batch]
+set -euo pipefail
+
+CONCURRENCY="${1:-2000}"
+SECONDS_PER_RUN="${2:-30}"
+ENDPOINT="${3:-calculate}"
+HEAP="${HEAP:-256m}"
+JAR=target/opportunity-cost-calculation-1.0.0.jar
+
+cd "$(dirname "$0")/.."
+mvn -B -q -Pjava21,benchmark clean package test-compile -DskipTests
+
+run_mode() {
+    local name="$1" port="$2" profiles="$3"
+    echo "=== ${name} (힙 ${HEAP}, 포트 ${port}) ==="
+    java -Xms"${HEAP}" -Xmx"${HEAP}" -jar "${JAR}" \
+        --server.port="${port}" --spring.profiles.active="${profiles}" \
+        --logging.level.com.opportunitycost=WARN > "target/loadtest-${port}.log" 2>&1 &
+    local pid=$!
+    trap 'kill ${pid} 2>/dev/null || true' RETURN
+    until curl -sf "http://localhost:${port}/actuator/health" > /dev/null; do sleep 1; done
+
+    mvn -B -q -Pjava21,benchmark exec:exec \
+        -Dbenchmark.main=com.opportunitycost.loadtest.CalculationLoadTest \
+        -Dbenchmark.args="http://localhost:${port} ${CONCURRENCY} ${SECONDS_PER_RUN} ${ENDPOINT}"
+}
+
+run_mode "플랫폼 스레드" 18080 default
+run_mode "가상 스레드" 18081 virtual
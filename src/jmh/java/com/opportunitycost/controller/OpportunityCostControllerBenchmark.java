@@ -0,0 +1,122 @@
+package com.opportunitycost.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.opportunitycost.dto.CalculationRequest;
+import com.opportunitycost.dto.CalculationResponse;
+import com.opportunitycost.exception.GlobalExceptionHandler;
+import com.opportunitycost.repository.OptionSetRepository;
+import com.opportunitycost.repository.WageProfileRepository;
+import com.opportunitycost.service.BatchCalculationService;
+import com.opportunitycost.service.BenchmarkRequests;
+import com.opportunitycost.service.CalculationCacheService;
+import com.opportunitycost.service.CalculationRequestValidator;
+import com.opportunitycost.service.LargeComparisonService;
+import com.opportunitycost.service.OpportunityCostService;
+import com.opportunitycost.service.OptionSetService;
+import com.opportunitycost.service.ProfileService;
+import com.opportunitycost.service.WageSweepService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 컨트롤러 및 JSON 직렬화 벤치마크
+ *
+ * DTO의 JSON/CBOR 역직렬화/직렬화(애플리케이션과 같이 Blackbird 적용)와,
+ * 요청 본문 파싱부터 검증·계산·응답 직렬화까지의 전체 경로(MockMvc, 서블릿 컨테이너 제외)를 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@State(Scope.Thread)
+public class OpportunityCostControllerBenchmark {
+
+    private EmbeddedDatabase database;
+    private ObjectMapper objectMapper;
+    private ObjectMapper cborMapper;
+    private MockMvc mockMvc;
+    private byte[] requestJson;
+    private byte[] requestCbor;
+    private CalculationResponse response;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().modules(new BlackbirdModule()).build();
+        cborMapper = Jackson2ObjectMapperBuilder.cbor().modules(new BlackbirdModule()).build();
+
+        OpportunityCostService service = new OpportunityCostService(new CalculationCacheService());
+        CalculationRequestValidator requestValidator = new CalculationRequestValidator();
+        BatchCalculationService batchService = new BatchCalculationService(
+            service, requestValidator, objectMapper, Runnable::run);
+        LargeComparisonService largeService = new LargeComparisonService(service, Runnable::run);
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .addScript("schema.sql")
+            .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        mockMvc = MockMvcBuilders
+            .standaloneSetup(new OpportunityCostController(
+                service, batchService, largeService, new WageSweepService(),
+                new OptionSetService(new OptionSetRepository(jdbcTemplate), largeService, 10_000, 1_000_000),
+                new ProfileService(new WageProfileRepository(jdbcTemplate), 10_000),
+                new CalculationHttpCache(Duration.ofHours(1)), requestValidator))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+            .build();
+
+        CalculationRequest request = BenchmarkRequests.sample();
+        requestJson = objectMapper.writeValueAsBytes(request);
+        requestCbor = cborMapper.writeValueAsBytes(request);
+        response = service.calculate(request);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public CalculationRequest deserializeRequest() throws Exception {
+        return objectMapper.readValue(requestJson, CalculationRequest.class);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public CalculationRequest deserializeRequestCbor() throws Exception {
+        return cborMapper.readValue(requestCbor, CalculationRequest.class);
+    }
+
+    @Benchmark
+    public byte[] serializeResponseCbor() throws Exception {
+        return cborMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public MvcResult calculateEndToEnd() throws Exception {
+        return mockMvc.perform(post("/api/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+            .andReturn();
+    }
+}
@@ -0,0 +1,148 @@
+package com.opportunitycost.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 계산 API 부하 테스트
+ *
+ * 지정한 동시 요청 수를 유지하며 일정 시간 동안 요청을 보내고,
+ * 처리량·지연 시간 분포와 서버의 힙 사용량·스레드 수(Actuator)를 함께 출력합니다.
+ * 플랫폼 스레드 모드와 가상 스레드 모드(virtual 프로파일)를 같은 힙 크기로 띄워 비교할 때 사용합니다.
+ *
+ * 실행 (서버 실행 후):
+ * mvn -Pbenchmark test-compile exec:exec \
+ *   -Dbenchmark.main=com.opportunitycost.loadtest.CalculationLoadTest \
+ *   -Dbenchmark.args="http://localhost:8080 2000 30 calculate"
+ *
+ * 인자: [기본 URL] [동시 요청 수] [시간(초)] [calculate|multi|batch]
+ */
+public class CalculationLoadTest {
+
+    // 지연 시간 분포: 100µs 단위 버킷, 최대 10초
+    private static final long BUCKET_MICROS = 100;
+    private static final int BUCKET_COUNT = 100_000;
+
+    private static final String CALCULATE_BODY =
+        "{\"hourlyWage\":%d,\"optionA\":{\"timeMinutes\":10,\"directCost\":3000},"
+            + "\"optionB\":{\"timeMinutes\":40,\"directCost\":2300}}";
+    private static final String MULTI_BODY =
+        "{\"hourlyWage\":%d,\"options\":[{\"timeMinutes\":10,\"directCost\":3000},"
+            + "{\"timeMinutes\":40,\"directCost\":2300},{\"timeMinutes\":0,\"directCost\":8000}]}";
+
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKET_COUNT + 1);
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        String endpoint = args.length > 3 ? args[3] : "calculate";
+
+        new CalculationLoadTest().run(baseUrl, concurrency, seconds, endpoint);
+    }
+
+    void run(String baseUrl, int concurrency, int seconds, String endpoint) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        URI uri = URI.create(baseUrl + ("calculate".equals(endpoint) ? "/api/calculate" : "/api/calculate/" + endpoint));
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        System.out.printf("부하 테스트 시작 - %s, 동시 요청 %d, %d초%n", uri, concurrency, seconds);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+        long sequence = 0;
+        while (System.nanoTime() < deadline) {
+            if (!inFlight.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                continue;
+            }
+            // 시급을 바꿔 가며 캐시 히트와 미스가 섞이도록 함
+            long hourlyWage = 10_000 + (sequence++ % 5_000);
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body(endpoint, hourlyWage)))
+                .build();
+            long sentAt = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    record(System.nanoTime() - sentAt, error == null && response.statusCode() == 200);
+                    inFlight.release();
+                });
+        }
+        inFlight.acquire(concurrency);
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        long total = succeeded.get() + failed.get();
+        System.out.printf("요청: %d건 (실패 %d건), 처리량: %.0f req/s%n", total, failed.get(), total / elapsed);
+        System.out.printf("지연 시간 - p50: %.1fms, p90: %.1fms, p99: %.1fms, 최대 구간: %.1fms 이상%n",
+            percentile(0.50), percentile(0.90), percentile(0.99), percentile(1.0));
+        printServerMetrics(client, baseUrl);
+    }
+
+    private static String body(String endpoint, long hourlyWage) {
+        if ("multi".equals(endpoint)) {
+            return String.format(MULTI_BODY, hourlyWage);
+        }
+        if ("batch".equals(endpoint)) {
+            StringBuilder body = new StringBuilder("{\"requests\":[");
+            for (int i = 0; i < 100; i++) {
+                body.append(i == 0 ? "" : ",").append(String.format(CALCULATE_BODY, hourlyWage + i));
+            }
+            return body.append("]}").toString();
+        }
+        return String.format(CALCULATE_BODY, hourlyWage);
+    }
+
+    private void record(long latencyNanos, boolean success) {
+        (success ? succeeded : failed).incrementAndGet();
+        long bucket = TimeUnit.NANOSECONDS.toMicros(latencyNanos) / BUCKET_MICROS;
+        histogram.incrementAndGet((int) Math.min(bucket, BUCKET_COUNT));
+    }
+
+    private double percentile(double quantile) {
+        long total = succeeded.get() + failed.get();
+        long target = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i <= BUCKET_COUNT; i++) {
+            seen += histogram.get(i);
+            if (seen >= target && seen > 0) {
+                return i * BUCKET_MICROS / 1000.0;
+            }
+        }
+        return 0;
+    }
+
+    private static void printServerMetrics(HttpClient client, String baseUrl) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String[][] metrics = {
+            {"jvm.memory.used?tag=area:heap", "서버 힙 사용량(bytes)"},
+            {"jvm.threads.peak", "서버 최대 플랫폼 스레드 수"},
+            {"jvm.threads.live", "서버 현재 플랫폼 스레드 수"},
+        };
+        for (String[] metric : metrics) {
+            try {
+                HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + metric[0])).build(),
+                    HttpResponse.BodyHandlers.ofString());
+                JsonNode value = objectMapper.readTree(response.body()).path("measurements").path(0).path("value");
+                System.out.printf("%s: %,.0f%n", metric[1], value.asDouble());
+            } catch (Exception ex) {
+                System.out.printf("%s: 조회 실패 (%s)%n", metric[1], ex.getMessage());
+            }
+        }
+    }
+}
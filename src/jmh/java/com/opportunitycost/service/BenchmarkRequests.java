@@ -0,0 +1,63 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.CalculationRequest;
+import com.opportunitycost.dto.MultiComparisonRequest;
+import com.opportunitycost.model.ComparisonOption;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 요청 데이터 생성
+ */
+public final class BenchmarkRequests {
+
+    private BenchmarkRequests() {
+    }
+
+    /**
+     * API 문서의 예시 1 (더 싼 마트 vs 가까운 편의점)
+     */
+    public static CalculationRequest sample() {
+        return calculation(15000L, 10, 3000L, 40, 2300L);
+    }
+
+    public static CalculationRequest calculation(long hourlyWage, int timeA, long costA, int timeB, long costB) {
+        CalculationRequest request = new CalculationRequest();
+        request.setHourlyWage(hourlyWage);
+        request.setOptionA(new ComparisonOption(timeA, costA));
+        request.setOptionB(new ComparisonOption(timeB, costB));
+        return request;
+    }
+
+    /**
+     * 서로 다른 입력의 2안 비교 요청 목록 (캐시 미스 측정용)
+     */
+    public static CalculationRequest[] distinctCalculations(int count, long seed) {
+        Random random = new Random(seed);
+        CalculationRequest[] requests = new CalculationRequest[count];
+        for (int i = 0; i < count; i++) {
+            requests[i] = calculation(
+                1 + random.nextInt(100_000),
+                random.nextInt(600), random.nextInt(100_000),
+                random.nextInt(600), random.nextInt(100_000));
+        }
+        return requests;
+    }
+
+    /**
+     * 선택지 5개짜리 다안 비교 요청
+     */
+    public static MultiComparisonRequest multi(long hourlyWage, long seed) {
+        Random random = new Random(seed);
+        List<ComparisonOption> options = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            options.add(new ComparisonOption(random.nextInt(600), (long) random.nextInt(100_000)));
+        }
+        MultiComparisonRequest request = new MultiComparisonRequest();
+        request.setHourlyWage(hourlyWage);
+        request.setOptions(options);
+        return request;
+    }
+}
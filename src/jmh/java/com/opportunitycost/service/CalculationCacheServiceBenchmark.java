@@ -0,0 +1,79 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.CalculationRequest;
+import com.opportunitycost.dto.CalculationResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계산 결과 캐시 벤치마크
+ *
+ * 키 생성, 히트/미스 조회, 저장 비용을 측정합니다.
+ * 동시 접근 시 성능은 -t 옵션(스레드 수)으로 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class CalculationCacheServiceBenchmark {
+
+    private static final int DISTINCT_INPUTS = 4_096;
+
+    @State(Scope.Benchmark)
+    public static class SharedCache {
+        CalculationCacheService cacheService;
+        // 저장 벤치마크 전용 (조회 벤치마크의 히트율에 영향을 주지 않도록 분리)
+        CalculationCacheService writeCacheService;
+        CalculationResponse response;
+
+        @Setup
+        public void setUp() {
+            cacheService = new CalculationCacheService();
+            writeCacheService = new CalculationCacheService();
+            response = new OpportunityCostService(new CalculationCacheService())
+                .calculate(BenchmarkRequests.sample());
+            cacheService.cacheResult(CalculationKey.of(BenchmarkRequests.sample()), response);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Inputs {
+        CalculationRequest sample;
+        CalculationRequest[] distinct;
+        int cursor;
+
+        @Setup
+        public void setUp() {
+            sample = BenchmarkRequests.sample();
+            // 스레드마다 다른 입력으로 미스 경로 측정
+            distinct = BenchmarkRequests.distinctCalculations(DISTINCT_INPUTS, Thread.currentThread().getId());
+        }
+
+        CalculationRequest next() {
+            cursor = (cursor + 1) & (DISTINCT_INPUTS - 1);
+            return distinct[cursor];
+        }
+    }
+
+    @Benchmark
+    public CalculationKey createKey(Inputs inputs) {
+        return CalculationKey.of(inputs.sample);
+    }
+
+    @Benchmark
+    public CalculationResponse lookupHit(SharedCache cache, Inputs inputs) {
+        return cache.cacheService.getCachedResult(CalculationKey.of(inputs.sample));
+    }
+
+    @Benchmark
+    public CalculationResponse lookupMiss(SharedCache cache, Inputs inputs) {
+        return cache.cacheService.getCachedResult(CalculationKey.of(inputs.next()));
+    }
+
+    @Benchmark
+    public void store(SharedCache cache, Inputs inputs) {
+        cache.writeCacheService.cacheResult(CalculationKey.of(inputs.next()), cache.response);
+    }
+}
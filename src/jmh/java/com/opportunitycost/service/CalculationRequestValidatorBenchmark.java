@@ -0,0 +1,82 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.CalculationRequest;
+import com.opportunitycost.dto.MultiComparisonRequest;
+import com.opportunitycost.model.ComparisonOption;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 검증 벤치마크
+ *
+ * 같은 요청에 대해 Bean Validation(Hibernate Validator)과 전용 검증기의 비용을
+ * 유효한 요청과 검증 오류가 있는 요청으로 나누어 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@State(Scope.Benchmark)
+public class CalculationRequestValidatorBenchmark {
+
+    private ValidatorFactory factory;
+    private Validator beanValidator;
+    private CalculationRequestValidator requestValidator;
+    private CalculationRequest valid;
+    private CalculationRequest invalid;
+    private MultiComparisonRequest validMulti;
+
+    @Setup
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        beanValidator = factory.getValidator();
+        requestValidator = new CalculationRequestValidator();
+        valid = BenchmarkRequests.sample();
+        invalid = BenchmarkRequests.sample();
+        invalid.setHourlyWage(0L);
+        invalid.setOptionB(new ComparisonOption(-1, null));
+        validMulti = BenchmarkRequests.multi(15_000L, 7L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CalculationRequest>> beanValidationValid() {
+        return beanValidator.validate(valid);
+    }
+
+    @Benchmark
+    public ValidationResult validatorValid() {
+        return requestValidator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CalculationRequest>> beanValidationInvalid() {
+        return beanValidator.validate(invalid);
+    }
+
+    @Benchmark
+    public ValidationResult validatorInvalid() {
+        return requestValidator.validate(invalid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<MultiComparisonRequest>> beanValidationMulti() {
+        return beanValidator.validate(validMulti);
+    }
+
+    @Benchmark
+    public ValidationResult validatorMulti() {
+        return requestValidator.validate(validMulti);
+    }
+}
@@ -0,0 +1,89 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.CalculationRequest;
+import com.opportunitycost.dto.CalculationResponse;
+import com.opportunitycost.dto.MultiComparisonRequest;
+import com.opportunitycost.dto.MultiComparisonResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기회비용 계산 서비스 벤치마크
+ *
+ * 캐시 히트/미스 경로, 다안 비교(정렬 포함), 계산식 생성 비용을 측정합니다.
+ * 미스 경로는 캐시 크기 0인 서비스로 매번 전체 계산을 수행합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@State(Scope.Thread)
+public class OpportunityCostServiceBenchmark {
+
+    private static final int DISTINCT_INPUTS = 4_096;
+
+    private OpportunityCostService cachedService;
+    private OpportunityCostService uncachedService;
+
+    private CalculationRequest sample;
+    private CalculationRequest[] distinct;
+    private MultiComparisonRequest multiSample;
+    private MultiComparisonRequest[] multiDistinct;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        cachedService = new OpportunityCostService(new CalculationCacheService());
+        uncachedService = new OpportunityCostService(new CalculationCacheService(0, Duration.ZERO));
+
+        sample = BenchmarkRequests.sample();
+        distinct = BenchmarkRequests.distinctCalculations(DISTINCT_INPUTS, 42L);
+        multiSample = BenchmarkRequests.multi(15000L, 42L);
+        multiDistinct = new MultiComparisonRequest[DISTINCT_INPUTS];
+        for (int i = 0; i < DISTINCT_INPUTS; i++) {
+            multiDistinct[i] = BenchmarkRequests.multi(10_000L + i, i);
+        }
+
+        cachedService.calculate(sample);
+        cachedService.calculateMulti(multiSample);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (DISTINCT_INPUTS - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public CalculationResponse calculateCacheHit() {
+        return cachedService.calculate(sample);
+    }
+
+    @Benchmark
+    public CalculationResponse calculateCacheMiss() {
+        return uncachedService.calculate(distinct[next()]);
+    }
+
+    @Benchmark
+    public MultiComparisonResponse calculateMultiCacheHit() {
+        return cachedService.calculateMulti(multiSample);
+    }
+
+    @Benchmark
+    public MultiComparisonResponse calculateMultiCacheMiss() {
+        return uncachedService.calculateMulti(multiDistinct[next()]);
+    }
+
+    @Benchmark
+    public String formulaCached() {
+        return cachedService.generateFormula(15000L);
+    }
+
+    @Benchmark
+    public String formulaUncached() {
+        // 계산식 캐시를 거치지 않고 매번 생성 비용을 측정 (시급 순환은 상수 접힘 방지)
+        return cachedService.formatFormula(distinct[next()].getHourlyWage());
+    }
+}
@@ -0,0 +1,91 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.CheapestOptionResponse;
+import com.opportunitycost.dto.LargeComparisonRequest;
+import com.opportunitycost.dto.LargeComparisonResponse;
+import com.opportunitycost.dto.OptionSetRequest;
+import com.opportunitycost.model.ComparisonOption;
+import com.opportunitycost.repository.OptionSetRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 등록된 선택지 묶음 최저 비용 조회 벤치마크
+ *
+ * 같은 선택지 묶음에 대해 시급만 바꿔 가며 최저 비용 선택지를 찾을 때,
+ * 포락선 이진 탐색(등록 후 조회)과 매번 전체 계산(대량 다안 비교, 1위만 조회)을 비교합니다.
+ * 묶음은 메모리 H2에 저장하며, 조회는 캐시에 올라간 포락선을 사용합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@State(Scope.Thread)
+public class OptionSetServiceBenchmark {
+
+    @Param({"100", "10000"})
+    private int optionCount;
+
+    private EmbeddedDatabase database;
+    private OptionSetService optionSetService;
+    private LargeComparisonService largeComparisonService;
+    private LargeComparisonRequest largeRequest;
+    private long optionSetId;
+    private long hourlyWage;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        List<ComparisonOption> options = new ArrayList<>(optionCount);
+        for (int i = 0; i < optionCount; i++) {
+            options.add(new ComparisonOption(random.nextInt(600), (long) random.nextInt(100_000)));
+        }
+
+        largeComparisonService = new LargeComparisonService(
+            new OpportunityCostService(new CalculationCacheService()), Runnable::run);
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .addScript("schema.sql")
+            .build();
+        optionSetService = new OptionSetService(
+            new OptionSetRepository(new JdbcTemplate(database)), largeComparisonService, 1, 1_000_000);
+        OptionSetRequest request = new OptionSetRequest();
+        request.setOptions(options);
+        optionSetId = optionSetService.register(request).getId();
+
+        largeRequest = new LargeComparisonRequest();
+        largeRequest.setHourlyWage(15_000L);
+        largeRequest.setOptions(options);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    private long nextWage() {
+        hourlyWage = hourlyWage >= 100_000 ? 1_000 : hourlyWage + 7;
+        return hourlyWage;
+    }
+
+    @Benchmark
+    public CheapestOptionResponse cheapestByEnvelope() {
+        return optionSetService.findCheapest(optionSetId, nextWage());
+    }
+
+    @Benchmark
+    public LargeComparisonResponse cheapestByFullComparison() {
+        largeRequest.setHourlyWage(nextWage());
+        return largeComparisonService.compare(largeRequest, 0, 1);
+    }
+}
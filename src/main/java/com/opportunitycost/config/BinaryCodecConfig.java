@@ -0,0 +1,113 @@
+package com.opportunitycost.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 바이너리 인코딩(CBOR) 설정
+ *
+ * 서비스 간 호출은 Content-Type/Accept에 application/cbor를 지정하면 JSON 대신 CBOR로 요청/응답합니다.
+ * 같은 DTO와 같은 검증을 사용하며, JSON 클라이언트는 그대로 동작합니다.
+ * CBOR 매퍼는 Spring Boot가 구성한 ObjectMapper를 복사해 같은 설정(모듈 포함)을 사용합니다.
+ *
+ * Blackbird 모듈은 DTO의 getter/setter 호출을 리플렉션 대신 LambdaMetafactory로 생성한 람다로 바꿔,
+ * JSON과 CBOR 모두 직렬화/역직렬화 비용을 줄입니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BinaryCodecConfig {
+
+    /**
+     * Spring Boot가 Jackson ObjectMapper에 자동 등록하는 모듈
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * 서블릿 모드: application/cbor 메시지 컨버터 (기본 CBOR 컨버터를 대체)
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2CborHttpMessageConverter(cborMapper(objectMapper));
+    }
+
+    /**
+     * 리액티브 모드: application/cbor 인코더/디코더
+     * (ObjectMapper를 받는 생성자는 미디어 타입을 생략하면 JSON 타입을 사용하므로 CBOR를 명시)
+     *
+     * WebFlux는 사용자 코덱을 기본 코덱보다 앞에 두므로, Accept가 없거나 와일드카드인 요청이
+     * CBOR로 응답받지 않도록 JSON 인코더를 CBOR 인코더보다 먼저 등록합니다.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public WebFluxConfigurer cborCodecConfigurer(ObjectMapper objectMapper) {
+        ObjectMapper mapper = cborMapper(objectMapper);
+        return new WebFluxConfigurer() {
+            @Override
+            public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+                configurer.customCodecs().register(new Jackson2CborDecoder(mapper, MediaType.APPLICATION_CBOR));
+                configurer.customCodecs().register(new Jackson2JsonEncoder(objectMapper));
+                configurer.customCodecs().register(new SingleValueCborEncoder(mapper));
+            }
+        };
+    }
+
+    /**
+     * JSON ObjectMapper와 같은 설정의 CBOR 매퍼 (JSON 매퍼 빈은 건드리지 않도록 복사본에서 생성)
+     */
+    private static ObjectMapper cborMapper(ObjectMapper jsonMapper) {
+        return jsonMapper.copyWith(new CBORFactory());
+    }
+
+    /**
+     * CBOR 응답 인코더
+     * Jackson2CborEncoder는 encode()를 지원하지 않지만 응답 작성기는 단건도 encode()로 호출하므로,
+     * 단건(Mono)은 값 하나로, 여러 값(Flux)은 모두 모아 CBOR 배열 하나로 인코딩합니다
+     * (JSON 인코더가 스트리밍이 아닌 Flux를 JSON 배열로 쓰는 것과 같음, CBOR 스트림 응답은 지원하지 않음).
+     */
+    static class SingleValueCborEncoder extends Jackson2CborEncoder {
+
+        SingleValueCborEncoder(ObjectMapper mapper) {
+            super(mapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                       ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+            if (inputStream instanceof Mono<?> mono) {
+                return mono
+                    .map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints))
+                    .flux();
+            }
+            ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+            return Flux.from(inputStream)
+                .collectList()
+                .map(values -> encodeValue(values, bufferFactory, listType, mimeType, hints))
+                .flux();
+        }
+    }
+}
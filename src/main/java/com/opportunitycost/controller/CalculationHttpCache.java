@@ -0,0 +1,123 @@
+package com.opportunitycost.controller;
+
+import com.opportunitycost.service.CalculationKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 계산 결과의 HTTP 캐시 헤더 (ETag, Cache-Control)
+ *
+ * 계산 결과는 입력값만으로 정해지므로, ETag를 응답 본문이 아닌 정규화된 입력(캐시 키)으로 만듭니다.
+ * 따라서 If-None-Match가 일치하면 계산이나 캐시 조회 없이 304로 응답할 수 있습니다.
+ * 같은 입력이라도 JSON과 CBOR 응답은 바이트가 다르므로, 협상된 응답 형식별로 다른 ETag를 사용합니다.
+ * 응답 형식이나 계산식 문구가 바뀌면 RESPONSE_VERSION을 올려 이전 ETag를 무효화합니다.
+ */
+@Component
+public class CalculationHttpCache {
+
+    // 응답 내용이 바뀌는 변경 시 증가
+    static final String RESPONSE_VERSION = "v1";
+
+    private static final List<String> VARY = List.of(HttpHeaders.ACCEPT);
+
+    private final CacheControl cacheControl;
+
+    /**
+     * @param maxAge 브라우저/CDN/프록시가 재검증 없이 사용할 수 있는 시간
+     */
+    public CalculationHttpCache(@Value("${calculation.http-cache.max-age:PT1H}") Duration maxAge) {
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    /**
+     * Accept 헤더로 응답 형식(JSON, CBOR)을 정합니다.
+     * 메시지 컨버터 순서와 같이, 품질 값이 같거나 와일드카드(*&#47;*)면 JSON을 우선합니다.
+     * 헤더가 없거나 해석할 수 없으면 JSON입니다.
+     *
+     * @param accept Accept 헤더 값 (없으면 null)
+     */
+    public MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MediaType best = MediaType.APPLICATION_JSON;
+        double bestQuality = 0.0;
+        for (MediaType type : acceptable) {
+            double quality = type.getQualityValue();
+            if (quality <= bestQuality) {
+                continue;
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                best = MediaType.APPLICATION_JSON;
+                bestQuality = quality;
+            } else if (type.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                best = MediaType.APPLICATION_CBOR;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 입력값과 응답 형식으로 강한 ETag를 만듭니다.
+     *
+     * @param key 정규화된 입력 (캐시 키)
+     * @param compact 간결 응답 여부 (응답 형식이 다르므로 다른 ETag)
+     * @param mediaType 협상된 응답 형식 ({@link #negotiate(String)})
+     */
+    public String eTag(CalculationKey key, boolean compact, MediaType mediaType) {
+        String format = MediaType.APPLICATION_CBOR.isCompatibleWith(mediaType) ? "-cbor-" : "-json-";
+        return "\"" + RESPONSE_VERSION + (compact ? "-c" : "-f") + format + key + "\"";
+    }
+
+    /**
+     * GET 응답(200, 304) 헤더: ETag, Cache-Control(public, max-age), Vary: Accept (JSON/CBOR 협상 결과별로 캐시)
+     *
+     * @param eTag 응답의 ETag
+     */
+    public HttpHeaders headers(String eTag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(eTag);
+        headers.setCacheControl(cacheControl);
+        headers.setVary(VARY);
+        return headers;
+    }
+
+    /**
+     * If-None-Match 헤더 값이 ETag와 일치하는지 확인합니다 (목록, 약한 비교, * 지원).
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값 (없으면 null)
+     * @param eTag 현재 응답의 ETag
+     */
+    public boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,71 +1,413 @@
 package com.opportunitycost.controller;
 
 import com.opportunitycost.dto.*;
+import com.opportunitycost.metrics.CalculationMetrics;
+import com.opportunitycost.service.BatchCalculationService;
+import com.opportunitycost.service.CalculationKey;
+import com.opportunitycost.service.CalculationRequestValidator;
+import com.opportunitycost.service.LargeComparisonService;
 import com.opportunitycost.service.OpportunityCostService;
+import com.opportunitycost.model.WageProfile;
+import com.opportunitycost.service.OptionSetService;
+import com.opportunitycost.service.ProfileService;
+import com.opportunitycost.service.RankingFilter;
+import com.opportunitycost.service.ValidationResult;
+import com.opportunitycost.service.WageSweepService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
- * 기회비용 계산 컨트롤러
+ * 기회비용 계산 컨트롤러 (서블릿/Tomcat 모드)
+ * reactive 프로파일에서는 {@link ReactiveOpportunityCostController}가 같은 API를 제공합니다.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api")
 @CrossOrigin(origins = "*")
 public class OpportunityCostController {
 
     private static final Logger logger = LoggerFactory.getLogger(OpportunityCostController.class);
     
+    private static final String NDJSON = "application/x-ndjson";
+    
     private final OpportunityCostService opportunityCostService;
+    private final BatchCalculationService batchCalculationService;
+    private final LargeComparisonService largeComparisonService;
+    private final WageSweepService wageSweepService;
+    private final OptionSetService optionSetService;
+    private final ProfileService profileService;
+    private final CalculationHttpCache httpCache;
+    private final CalculationRequestValidator requestValidator;
 
-    public OpportunityCostController(OpportunityCostService opportunityCostService) {
+    public OpportunityCostController(OpportunityCostService opportunityCostService,
+                                     BatchCalculationService batchCalculationService,
+                                     LargeComparisonService largeComparisonService,
+                                     WageSweepService wageSweepService,
+                                     OptionSetService optionSetService,
+                                     ProfileService profileService,
+                                     CalculationHttpCache httpCache,
+                                     CalculationRequestValidator requestValidator) {
         this.opportunityCostService = opportunityCostService;
+        this.batchCalculationService = batchCalculationService;
+        this.largeComparisonService = largeComparisonService;
+        this.wageSweepService = wageSweepService;
+        this.optionSetService = optionSetService;
+        this.profileService = profileService;
+        this.httpCache = httpCache;
+        this.requestValidator = requestValidator;
     }
 
     /**
      * 기회비용 계산 API (2개 선택지 비교)
      * 
      * @param request 계산 요청 정보
-     * @return 계산 결과
+     * @param accept 응답 형식 (JSON/CBOR별로 다른 ETag)
+     * @return 계산 결과 (검증 오류 시 400과 필드별 오류)
      */
     @PostMapping("/calculate")
-    public ResponseEntity<CalculationResponse> calculate(@Valid @RequestBody CalculationRequest request) {
+    public ResponseEntity<?> calculate(@RequestBody CalculationRequest request,
+                                       @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        ValidationResult validation = requestValidator.validate(request);
+        if (!validation.isValid()) {
+            return badRequest(validation);
+        }
         CalculationResponse response = opportunityCostService.calculate(request);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+            .eTag(httpCache.eTag(CalculationKey.of(request), false, httpCache.negotiate(accept)))
+            .body(response);
+    }
+
+    /**
+     * 기회비용 계산 API - GET (쿼리 파라미터, HTTP 캐시 가능)
+     * 예: ?hourlyWage=15000&optionA.timeMinutes=10&optionA.directCost=3000&optionB.timeMinutes=40&optionB.directCost=2300
+     * 입력값으로 만든 ETag와 Cache-Control을 함께 반환하며, If-None-Match가 일치하면 계산 없이 304를 반환합니다.
+     * 
+     * @param request 계산 요청 정보 (쿼리 파라미터)
+     * @param bindingResult 쿼리 파라미터 변환 결과
+     * @param ifNoneMatch 이전 응답의 ETag (선택)
+     * @param accept 응답 형식 (JSON/CBOR별로 다른 ETag)
+     * @return 계산 결과 (검증 오류 시 400과 필드별 오류)
+     */
+    @GetMapping("/calculate")
+    public ResponseEntity<?> calculateGet(CalculationRequest request, BindingResult bindingResult,
+                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        ValidationResult validation = requestValidator.validate(request, bindingResult);
+        if (!validation.isValid()) {
+            return badRequest(validation);
+        }
+        String eTag = httpCache.eTag(CalculationKey.of(request), false, httpCache.negotiate(accept));
+        if (httpCache.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(httpCache.headers(eTag)).build();
+        }
+        CalculationResponse response = opportunityCostService.calculate(request);
+        return ResponseEntity.ok().headers(httpCache.headers(eTag)).body(response);
+    }
+
+    /**
+     * 기회비용 계산 API - GET, 간결 응답 (?compact=true)
+     * 
+     * @param request 계산 요청 정보 (쿼리 파라미터)
+     * @param bindingResult 쿼리 파라미터 변환 결과
+     * @param ifNoneMatch 이전 응답의 ETag (선택)
+     * @param accept 응답 형식 (JSON/CBOR별로 다른 ETag)
+     * @return 간결한 계산 결과
+     */
+    @GetMapping(value = "/calculate", params = "compact=true")
+    public ResponseEntity<?> calculateGetCompact(CalculationRequest request, BindingResult bindingResult,
+                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                 @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        ValidationResult validation = requestValidator.validate(request, bindingResult);
+        if (!validation.isValid()) {
+            return badRequest(validation);
+        }
+        String eTag = httpCache.eTag(CalculationKey.of(request), true, httpCache.negotiate(accept));
+        if (httpCache.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(httpCache.headers(eTag)).build();
+        }
+        CalculationResponse response = opportunityCostService.calculate(request);
+        return ResponseEntity.ok().headers(httpCache.headers(eTag))
+            .body(CompactCalculationResponse.from(response));
+    }
+
+    /**
+     * 기회비용 계산 API - 간결 응답 (?compact=true)
+     * 계산식 설명 없이 숫자 결과와 추천만 짧은 필드명으로 반환합니다.
+     * 
+     * @param request 계산 요청 정보
+     * @param accept 응답 형식 (JSON/CBOR별로 다른 ETag)
+     * @return 간결한 계산 결과
+     */
+    @PostMapping(value = "/calculate", params = "compact=true")
+    public ResponseEntity<?> calculateCompact(@RequestBody CalculationRequest request,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        ValidationResult validation = requestValidator.validate(request);
+        if (!validation.isValid()) {
+            return badRequest(validation);
+        }
+        CalculationResponse response = opportunityCostService.calculate(request);
+        return ResponseEntity.ok()
+            .eTag(httpCache.eTag(CalculationKey.of(request), true, httpCache.negotiate(accept)))
+            .body(CompactCalculationResponse.from(response));
     }
 
     /**
      * 다안 비교 API (3~5개 선택지 비교)
      * 
      * @param request 다안 비교 요청 정보
+     * @param topK 총 비용이 낮은 순서로 최대 K개만 반환 (선택)
+     * @param maxTotalCost 총 비용이 이 값 이하인 선택지만 반환 (선택)
+     * @param maxDiffFromBest 최저 총 비용과의 차액이 이 값 이하인 선택지만 반환 (선택)
      * @return 다안 비교 결과
      */
     @PostMapping("/calculate/multi")
-    public ResponseEntity<MultiComparisonResponse> calculateMulti(@Valid @RequestBody MultiComparisonRequest request) {
+    public ResponseEntity<?> calculateMulti(@RequestBody MultiComparisonRequest request,
+                                            @RequestParam(required = false) Integer topK,
+                                            @RequestParam(required = false) Long maxTotalCost,
+                                            @RequestParam(required = false) Long maxDiffFromBest) {
+        ValidationResult validation = requestValidator.validate(request);
+        if (!validation.isValid()) {
+            return badRequest(validation);
+        }
+        RankingFilter filter = new RankingFilter(topK, maxTotalCost, maxDiffFromBest);
+        MultiComparisonResponse response = opportunityCostService.calculateMulti(request);
+        return ResponseEntity.ok(opportunityCostService.applyFilter(response, filter));
+    }
+
+    /**
+     * 다안 비교 API - 간결 응답 (?compact=true)
+     * 
+     * @param request 다안 비교 요청 정보
+     * @return 간결한 다안 비교 결과
+     */
+    @PostMapping(value = "/calculate/multi", params = "compact=true")
+    public ResponseEntity<?> calculateMultiCompact(@RequestBody MultiComparisonRequest request,
+                                                   @RequestParam(required = false) Integer topK,
+                                                   @RequestParam(required = false) Long maxTotalCost,
+                                                   @RequestParam(required = false) Long maxDiffFromBest) {
+        ValidationResult validation = requestValidator.validate(request);
+        if (!validation.isValid()) {
+            return badRequest(validation);
+        }
+        RankingFilter filter = new RankingFilter(topK, maxTotalCost, maxDiffFromBest);
         MultiComparisonResponse response = opportunityCostService.calculateMulti(request);
+        return ResponseEntity.ok(CompactMultiComparisonResponse.from(opportunityCostService.applyFilter(response, filter)));
+    }
+
+    /**
+     * 대량 다안 비교 API (최대 100,000개 선택지)
+     * 총 비용 순위 중 요청한 페이지만 반환하며, 최소/최대 비용 등 통계는 전체 선택지 기준입니다.
+     * 
+     * @param request 대량 다안 비교 요청 정보
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (1~1,000)
+     * @param topK 총 비용이 낮은 순서로 최대 K개까지만 순위에 포함 (선택)
+     * @param maxTotalCost 총 비용이 이 값 이하인 선택지만 순위에 포함 (선택)
+     * @param maxDiffFromBest 최저 총 비용과의 차액이 이 값 이하인 선택지만 순위에 포함 (선택)
+     * @return 요청한 페이지의 순위와 전체 통계
+     */
+    @PostMapping("/calculate/multi/large")
+    public ResponseEntity<LargeComparisonResponse> calculateLarge(@Valid @RequestBody LargeComparisonRequest request,
+                                                                  @RequestParam(defaultValue = "0") int page,
+                                                                  @RequestParam(defaultValue = "100") int size,
+                                                                  @RequestParam(required = false) Integer topK,
+                                                                  @RequestParam(required = false) Long maxTotalCost,
+                                                                  @RequestParam(required = false) Long maxDiffFromBest) {
+        RankingFilter filter = new RankingFilter(topK, maxTotalCost, maxDiffFromBest);
+        LargeComparisonResponse response = largeComparisonService.compare(request, page, size, filter);
         return ResponseEntity.ok(response);
     }
 
     /**
-     * 입력 검증 오류 처리
+     * 시급 구간 분석 API
+     * 시급 범위 안에서 유리한 선택지가 바뀌는 손익분기 시급과 구간별 최저 비용 선택지를 반환합니다.
+     * 
+     * @param request 시급 구간 분석 요청 정보
+     * @return 손익분기점, 구간별 최저 비용 선택지, 샘플 비용 곡선
+     */
+    @PostMapping("/calculate/sweep")
+    public ResponseEntity<WageSweepResponse> calculateSweep(@Valid @RequestBody WageSweepRequest request) {
+        WageSweepResponse response = wageSweepService.sweep(request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 선택지 묶음 등록 API
+     * 같은 선택지 묶음을 여러 시급으로 반복 비교할 때, 한 번 등록한 뒤 ID로 조회합니다.
+     * 
+     * @param request 선택지 묶음 등록 요청 정보
+     * @return 등록된 묶음 ID
+     */
+    @PostMapping("/option-sets")
+    public ResponseEntity<OptionSetResponse> registerOptionSet(@Valid @RequestBody OptionSetRequest request) {
+        OptionSetResponse response = optionSetService.register(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 등록된 선택지 묶음의 최저 비용 선택지 조회 API
+     * 시급은 직접 입력(hourlyWage)하거나 저장된 시급 프로필 ID(profileId)로 지정합니다.
+     * 
+     * @param id 선택지 묶음 ID
+     * @param hourlyWage 시급 (원/시간)
+     * @param profileId 시급 프로필 ID
+     * @return 최저 비용 선택지와 비용 분해
+     */
+    @GetMapping("/option-sets/{id}/cheapest")
+    public ResponseEntity<CheapestOptionResponse> findCheapestOption(@PathVariable long id,
+                                                                     @RequestParam(required = false) Long hourlyWage,
+                                                                     @RequestParam(required = false) Long profileId) {
+        long wage = profileService.resolveWage(profileId, hourlyWage);
+        CheapestOptionResponse response = optionSetService.findCheapest(id, wage);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 등록된 선택지 묶음의 총 비용 순위 조회 API (대량 다안 비교와 같은 응답)
+     * 
+     * @param id 선택지 묶음 ID
+     * @param hourlyWage 시급 (원/시간)
+     * @param profileId 시급 프로필 ID
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (1~1,000)
+     * @param topK 총 비용이 낮은 순서로 최대 K개까지만 순위에 포함 (선택)
+     * @param maxTotalCost 총 비용이 이 값 이하인 선택지만 순위에 포함 (선택)
+     * @param maxDiffFromBest 최저 총 비용과의 차액이 이 값 이하인 선택지만 순위에 포함 (선택)
+     * @return 요청한 페이지의 순위와 전체 통계
+     */
+    @GetMapping("/option-sets/{id}/ranking")
+    public ResponseEntity<LargeComparisonResponse> rankOptionSet(@PathVariable long id,
+                                                                 @RequestParam(required = false) Long hourlyWage,
+                                                                 @RequestParam(required = false) Long profileId,
+                                                                 @RequestParam(defaultValue = "0") int page,
+                                                                 @RequestParam(defaultValue = "100") int size,
+                                                                 @RequestParam(required = false) Integer topK,
+                                                                 @RequestParam(required = false) Long maxTotalCost,
+                                                                 @RequestParam(required = false) Long maxDiffFromBest) {
+        RankingFilter filter = new RankingFilter(topK, maxTotalCost, maxDiffFromBest);
+        long wage = profileService.resolveWage(profileId, hourlyWage);
+        LargeComparisonResponse response = optionSetService.rank(id, wage, page, size, filter);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 선택지 묶음 삭제 API
+     * 
+     * @param id 선택지 묶음 ID
+     */
+    @DeleteMapping("/option-sets/{id}")
+    public ResponseEntity<Void> deleteOptionSet(@PathVariable long id) {
+        optionSetService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 시급 프로필 저장 API
+     * 저장한 프로필 ID는 선택지 묶음 조회 시 시급 대신 사용할 수 있습니다.
+     * 
+     * @param request 시급 프로필 저장 요청 정보
+     * @return 저장된 프로필
+     */
+    @PostMapping("/profiles")
+    public ResponseEntity<WageProfile> createProfile(@Valid @RequestBody ProfileRequest request) {
+        WageProfile profile = profileService.create(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(profile);
+    }
+
+    /**
+     * 시급 프로필 조회 API
+     * 
+     * @param id 프로필 ID
+     * @return 프로필
+     */
+    @GetMapping("/profiles/{id}")
+    public ResponseEntity<WageProfile> getProfile(@PathVariable long id) {
+        return ResponseEntity.ok(profileService.get(id));
+    }
+
+    /**
+     * 시급 프로필 삭제 API
+     * 
+     * @param id 프로필 ID
+     */
+    @DeleteMapping("/profiles/{id}")
+    public ResponseEntity<Void> deleteProfile(@PathVariable long id) {
+        profileService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 일괄 계산 API (여러 2안 비교를 한 번에 계산)
+     * 항목별 검증 오류는 전체 요청을 실패시키지 않고 해당 항목에만 기록됩니다.
+     * 
+     * @param request 일괄 계산 요청 정보
+     * @return 입력 순서대로의 항목별 결과
+     */
+    @PostMapping("/calculate/batch")
+    public ResponseEntity<BatchCalculationResponse> calculateBatch(@Valid @RequestBody BatchCalculationRequest request) {
+        BatchCalculationResponse response = batchCalculationService.calculateBatch(request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 스트리밍 계산 API (NDJSON)
+     * 한 줄에 하나의 계산 요청을 읽는 즉시 계산하여 한 줄씩 응답합니다.
+     * 
+     * @param request 요청 본문 (application/x-ndjson)
+     * @param response 응답 본문 (application/x-ndjson)
+     */
+    @PostMapping(value = "/calculate/stream", consumes = NDJSON, produces = NDJSON)
+    public void calculateStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        batchCalculationService.calculateStream(request.getInputStream(), response.getOutputStream());
+    }
+
+    /**
+     * 계산 요청 검증 오류 응답 (예외 없이 반환, 아래 예외 처리와 같은 필드별 오류 형식)
+     */
+    private static ResponseEntity<Map<String, String>> badRequest(ValidationResult validation) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("입력 검증 오류 발생: {}", validation.getErrors());
+        }
+        validation.getErrors().keySet().forEach(CalculationMetrics::recordValidationFailure);
+        return ResponseEntity.badRequest().body(validation.getErrors());
+    }
+
+    /**
+     * 입력 검증 오류 처리 (계산 요청 외 DTO의 Bean Validation)
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
-        logger.warn("입력 검증 오류 발생: {}", ex.getMessage());
+        // 검증 실패는 필드별 메트릭으로 집계하고, 상세 메시지는 DEBUG에서만 생성
+        if (logger.isDebugEnabled()) {
+            logger.debug("입력 검증 오류 발생: {}", ex.getMessage());
+        }
         
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach((error) -> {
-            String fieldName = ((FieldError) error).getField();
-            String errorMessage = error.getDefaultMessage();
+            FieldError fieldError = (FieldError) error;
+            String fieldName = fieldError.getField();
+            // 쿼리 파라미터 변환 실패(GET)는 JSON 파싱 오류와 같은 취지의 메시지로 응답
+            String errorMessage = fieldError.isBindingFailure()
+                ? CalculationRequestValidator.BINDING_FAILURE_MESSAGE : error.getDefaultMessage();
             errors.put(fieldName, errorMessage);
+            CalculationMetrics.recordValidationFailure(fieldName);
         });
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
     }
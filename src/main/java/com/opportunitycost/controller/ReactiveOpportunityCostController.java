@@ -0,0 +1,372 @@
+package com.opportunitycost.controller;
+
+import com.opportunitycost.dto.*;
+import com.opportunitycost.exception.ErrorBodies;
+import com.opportunitycost.metrics.CalculationMetrics;
+import com.opportunitycost.service.BatchCalculationService;
+import com.opportunitycost.service.CalculationKey;
+import com.opportunitycost.service.CalculationRequestValidator;
+import com.opportunitycost.service.LargeComparisonService;
+import com.opportunitycost.service.OpportunityCostService;
+import com.opportunitycost.model.WageProfile;
+import com.opportunitycost.service.OptionSetService;
+import com.opportunitycost.service.ProfileService;
+import com.opportunitycost.service.RankingFilter;
+import com.opportunitycost.service.ValidationResult;
+import com.opportunitycost.service.WageSweepService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 기회비용 계산 컨트롤러 (리액티브/Netty 모드)
+ *
+ * reactive 프로파일(spring.main.web-application-type=reactive)에서만 등록되며,
+ * 서블릿 모드의 {@link OpportunityCostController}와 같은 요청/응답 형식을 제공합니다.
+ * 계산은 짧은 CPU 작업이므로 이벤트 루프에서 바로 수행하고, 같은 입력의 계산이 진행 중이면
+ * 이벤트 루프를 막지 않고 그 결과를 비동기로 기다립니다.
+ * 여러 스레드로 나누어 처리하는 일괄 계산과 저장소(JDBC)를 거치는 요청은 별도 스케줄러에서 실행합니다.
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveOpportunityCostController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveOpportunityCostController.class);
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    // 스트리밍 입력을 한 번에 이 개수까지만 요청 (백프레셔)
+    private static final int STREAM_PREFETCH = 256;
+
+    private final OpportunityCostService opportunityCostService;
+    private final BatchCalculationService batchCalculationService;
+    private final LargeComparisonService largeComparisonService;
+    private final WageSweepService wageSweepService;
+    private final OptionSetService optionSetService;
+    private final ProfileService profileService;
+    private final CalculationHttpCache httpCache;
+    private final CalculationRequestValidator requestValidator;
+
+    public ReactiveOpportunityCostController(OpportunityCostService opportunityCostService,
+                                             BatchCalculationService batchCalculationService,
+                                             LargeComparisonService largeComparisonService,
+                                             WageSweepService wageSweepService,
+                                             OptionSetService optionSetService,
+                                             ProfileService profileService,
+                                             CalculationHttpCache httpCache,
+                                             CalculationRequestValidator requestValidator) {
+        this.opportunityCostService = opportunityCostService;
+        this.batchCalculationService = batchCalculationService;
+        this.largeComparisonService = largeComparisonService;
+        this.wageSweepService = wageSweepService;
+        this.optionSetService = optionSetService;
+        this.profileService = profileService;
+        this.httpCache = httpCache;
+        this.requestValidator = requestValidator;
+    }
+
+    /**
+     * 기회비용 계산 API (2개 선택지 비교)
+     * 검증 오류는 예외 없이 400과 필드별 오류로 응답합니다.
+     */
+    @PostMapping("/calculate")
+    public Mono<ResponseEntity<?>> calculate(@RequestBody Mono<CalculationRequest> request,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return request.flatMap(body -> {
+            ValidationResult validation = requestValidator.validate(body);
+            if (!validation.isValid()) {
+                return Mono.just(badRequest(validation));
+            }
+            String eTag = httpCache.eTag(CalculationKey.of(body), false, httpCache.negotiate(accept));
+            return Mono.fromFuture(opportunityCostService.calculateAsync(body))
+                .map(response -> ResponseEntity.ok().eTag(eTag).body(response));
+        });
+    }
+
+    /**
+     * 기회비용 계산 API - 간결 응답 (?compact=true)
+     */
+    @PostMapping(value = "/calculate", params = "compact=true")
+    public Mono<ResponseEntity<?>> calculateCompact(@RequestBody Mono<CalculationRequest> request,
+                                                    @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return request.flatMap(body -> {
+            ValidationResult validation = requestValidator.validate(body);
+            if (!validation.isValid()) {
+                return Mono.just(badRequest(validation));
+            }
+            String eTag = httpCache.eTag(CalculationKey.of(body), true, httpCache.negotiate(accept));
+            return Mono.fromFuture(opportunityCostService.calculateAsync(body))
+                .map(response -> ResponseEntity.ok().eTag(eTag).body(CompactCalculationResponse.from(response)));
+        });
+    }
+
+    /**
+     * 기회비용 계산 API - GET (쿼리 파라미터, HTTP 캐시 가능)
+     * If-None-Match가 입력값으로 만든 ETag와 일치하면 계산 없이 304를 반환합니다.
+     */
+    @GetMapping("/calculate")
+    public Mono<ResponseEntity<?>> calculateGet(CalculationRequest request, BindingResult bindingResult,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        ValidationResult validation = requestValidator.validate(request, bindingResult);
+        if (!validation.isValid()) {
+            return Mono.just(badRequest(validation));
+        }
+        String eTag = httpCache.eTag(CalculationKey.of(request), false, httpCache.negotiate(accept));
+        if (httpCache.matches(ifNoneMatch, eTag)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(httpCache.headers(eTag)).build());
+        }
+        return Mono.fromFuture(() -> opportunityCostService.calculateAsync(request))
+            .map(response -> ResponseEntity.ok().headers(httpCache.headers(eTag)).body(response));
+    }
+
+    /**
+     * 기회비용 계산 API - GET, 간결 응답 (?compact=true)
+     */
+    @GetMapping(value = "/calculate", params = "compact=true")
+    public Mono<ResponseEntity<?>> calculateGetCompact(CalculationRequest request, BindingResult bindingResult,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                       @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        ValidationResult validation = requestValidator.validate(request, bindingResult);
+        if (!validation.isValid()) {
+            return Mono.just(badRequest(validation));
+        }
+        String eTag = httpCache.eTag(CalculationKey.of(request), true, httpCache.negotiate(accept));
+        if (httpCache.matches(ifNoneMatch, eTag)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(httpCache.headers(eTag)).build());
+        }
+        return Mono.fromFuture(() -> opportunityCostService.calculateAsync(request))
+            .map(response -> ResponseEntity.ok().headers(httpCache.headers(eTag))
+                .body(CompactCalculationResponse.from(response)));
+    }
+
+    /**
+     * 다안 비교 API (3~5개 선택지 비교)
+     */
+    @PostMapping("/calculate/multi")
+    public Mono<ResponseEntity<?>> calculateMulti(@RequestBody Mono<MultiComparisonRequest> request,
+                                                  @RequestParam(required = false) Integer topK,
+                                                  @RequestParam(required = false) Long maxTotalCost,
+                                                  @RequestParam(required = false) Long maxDiffFromBest) {
+        return request.flatMap(body -> {
+            ValidationResult validation = requestValidator.validate(body);
+            if (!validation.isValid()) {
+                return Mono.just(badRequest(validation));
+            }
+            RankingFilter filter = new RankingFilter(topK, maxTotalCost, maxDiffFromBest);
+            return Mono.fromFuture(opportunityCostService.calculateMultiAsync(body))
+                .map(response -> ResponseEntity.ok(opportunityCostService.applyFilter(response, filter)));
+        });
+    }
+
+    /**
+     * 다안 비교 API - 간결 응답 (?compact=true)
+     */
+    @PostMapping(value = "/calculate/multi", params = "compact=true")
+    public Mono<ResponseEntity<?>> calculateMultiCompact(@RequestBody Mono<MultiComparisonRequest> request,
+                                                         @RequestParam(required = false) Integer topK,
+                                                         @RequestParam(required = false) Long maxTotalCost,
+                                                         @RequestParam(required = false) Long maxDiffFromBest) {
+        return request.flatMap(body -> {
+            ValidationResult validation = requestValidator.validate(body);
+            if (!validation.isValid()) {
+                return Mono.just(badRequest(validation));
+            }
+            RankingFilter filter = new RankingFilter(topK, maxTotalCost, maxDiffFromBest);
+            return Mono.fromFuture(opportunityCostService.calculateMultiAsync(body))
+                .map(response -> ResponseEntity.ok(
+                    CompactMultiComparisonResponse.from(opportunityCostService.applyFilter(response, filter))));
+        });
+    }
+
+    /**
+     * 대량 다안 비교 API (최대 100,000개 선택지)
+     * 구간별 병렬 계산 결과를 기다리므로 별도 스케줄러에서 실행합니다.
+     */
+    @PostMapping("/calculate/multi/large")
+    public Mono<LargeComparisonResponse> calculateLarge(@Valid @RequestBody Mono<LargeComparisonRequest> request,
+                                                        @RequestParam(defaultValue = "0") int page,
+                                                        @RequestParam(defaultValue = "100") int size,
+                                                        @RequestParam(required = false) Integer topK,
+                                                        @RequestParam(required = false) Long maxTotalCost,
+                                                        @RequestParam(required = false) Long maxDiffFromBest) {
+        RankingFilter filter = new RankingFilter(topK, maxTotalCost, maxDiffFromBest);
+        return request.publishOn(Schedulers.boundedElastic())
+            .map(body -> largeComparisonService.compare(body, page, size, filter));
+    }
+
+    /**
+     * 시급 구간 분석 API
+     */
+    @PostMapping("/calculate/sweep")
+    public Mono<WageSweepResponse> calculateSweep(@Valid @RequestBody Mono<WageSweepRequest> request) {
+        return request.map(wageSweepService::sweep);
+    }
+
+    /**
+     * 선택지 묶음 등록 API
+     * 저장소에 쓰므로 별도 스케줄러에서 실행합니다.
+     */
+    @PostMapping("/option-sets")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<OptionSetResponse> registerOptionSet(@Valid @RequestBody Mono<OptionSetRequest> request) {
+        return request.publishOn(Schedulers.boundedElastic())
+            .map(optionSetService::register);
+    }
+
+    /**
+     * 등록된 선택지 묶음의 최저 비용 선택지 조회 API
+     * 캐시에 없는 묶음·프로필은 저장소에서 읽으므로 별도 스케줄러에서 실행합니다.
+     */
+    @GetMapping("/option-sets/{id}/cheapest")
+    public Mono<CheapestOptionResponse> findCheapestOption(@PathVariable long id,
+                                                           @RequestParam(required = false) Long hourlyWage,
+                                                           @RequestParam(required = false) Long profileId) {
+        return Mono.fromSupplier(() -> optionSetService.findCheapest(id, profileService.resolveWage(profileId, hourlyWage)))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 등록된 선택지 묶음의 총 비용 순위 조회 API
+     */
+    @GetMapping("/option-sets/{id}/ranking")
+    public Mono<LargeComparisonResponse> rankOptionSet(@PathVariable long id,
+                                                       @RequestParam(required = false) Long hourlyWage,
+                                                       @RequestParam(required = false) Long profileId,
+                                                       @RequestParam(defaultValue = "0") int page,
+                                                       @RequestParam(defaultValue = "100") int size,
+                                                       @RequestParam(required = false) Integer topK,
+                                                       @RequestParam(required = false) Long maxTotalCost,
+                                                       @RequestParam(required = false) Long maxDiffFromBest) {
+        RankingFilter filter = new RankingFilter(topK, maxTotalCost, maxDiffFromBest);
+        return Mono.fromSupplier(() -> optionSetService.rank(id, profileService.resolveWage(profileId, hourlyWage),
+                page, size, filter))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 선택지 묶음 삭제 API
+     */
+    @DeleteMapping("/option-sets/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteOptionSet(@PathVariable long id) {
+        return Mono.fromRunnable(() -> optionSetService.delete(id))
+            .subscribeOn(Schedulers.boundedElastic())
+            .then();
+    }
+
+    /**
+     * 시급 프로필 저장 API
+     */
+    @PostMapping("/profiles")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<WageProfile> createProfile(@Valid @RequestBody Mono<ProfileRequest> request) {
+        return request.publishOn(Schedulers.boundedElastic())
+            .map(profileService::create);
+    }
+
+    /**
+     * 시급 프로필 조회 API
+     */
+    @GetMapping("/profiles/{id}")
+    public Mono<WageProfile> getProfile(@PathVariable long id) {
+        return Mono.fromSupplier(() -> profileService.get(id))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 시급 프로필 삭제 API
+     */
+    @DeleteMapping("/profiles/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteProfile(@PathVariable long id) {
+        return Mono.fromRunnable(() -> profileService.delete(id))
+            .subscribeOn(Schedulers.boundedElastic())
+            .then();
+    }
+
+    /**
+     * 일괄 계산 API
+     * 분할 처리 결과를 기다리는 동안 이벤트 루프를 막지 않도록 별도 스케줄러에서 실행합니다.
+     */
+    @PostMapping("/calculate/batch")
+    public Mono<BatchCalculationResponse> calculateBatch(@Valid @RequestBody Mono<BatchCalculationRequest> request) {
+        return request.publishOn(Schedulers.boundedElastic())
+            .map(batchCalculationService::calculateBatch);
+    }
+
+    /**
+     * 스트리밍 계산 API (NDJSON)
+     * 입력 줄을 STREAM_PREFETCH개씩만 요청하므로, 응답을 읽는 속도에 맞춰 입력도 읽습니다.
+     */
+    @PostMapping(value = "/calculate/stream", consumes = NDJSON, produces = NDJSON)
+    public Flux<Object> calculateStream(@RequestBody Flux<String> lines) {
+        return lines
+            .filter(line -> !line.isBlank())
+            .limitRate(STREAM_PREFETCH)
+            .index()
+            .map(indexed -> {
+                int index = (int) Math.min(indexed.getT1(), Integer.MAX_VALUE);
+                BatchItemResult result = batchCalculationService.calculateLine(index, indexed.getT2());
+                return result.getErrors() != null ? result : result.getResult();
+            });
+    }
+
+    /**
+     * 계산 요청 검증 오류 응답 (예외 없이 반환, 서블릿 모드와 같은 필드별 오류 형식)
+     */
+    private static ResponseEntity<Map<String, String>> badRequest(ValidationResult validation) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("입력 검증 오류 발생: {}", validation.getErrors());
+        }
+        validation.getErrors().keySet().forEach(CalculationMetrics::recordValidationFailure);
+        return ResponseEntity.badRequest().body(validation.getErrors());
+    }
+
+    /**
+     * 입력 검증 오류 처리 (서블릿 모드와 같은 필드별 오류 형식)
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, String>> handleValidationExceptions(WebExchangeBindException ex) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("입력 검증 오류 발생: {}", ex.getMessage());
+        }
+
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach((error) -> {
+            FieldError fieldError = (FieldError) error;
+            String fieldName = fieldError.getField();
+            errors.put(fieldName, fieldError.isBindingFailure()
+                ? CalculationRequestValidator.BINDING_FAILURE_MESSAGE : error.getDefaultMessage());
+            CalculationMetrics.recordValidationFailure(fieldName);
+        });
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
+    }
+
+    /**
+     * 요청 본문 파싱 오류 처리 (서블릿 모드의 HttpMessageNotReadableException 처리와 같은 형식)
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<Map<String, String>> handleServerWebInputException(ServerWebInputException ex) {
+        logger.debug("요청 본문 파싱 오류: {}", ex.getReason());
+        CalculationMetrics.recordValidationFailure(CalculationMetrics.FIELD_BODY);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ErrorBodies.PARSE_ERROR);
+    }
+}
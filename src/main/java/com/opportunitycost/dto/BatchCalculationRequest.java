@@ -0,0 +1,32 @@
+package com.opportunitycost.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 일괄 계산 요청 DTO
+ *
+ * 각 항목은 개별 검증되며, 한 항목의 오류가 전체 요청을 실패시키지 않습니다.
+ */
+@Data
+public class BatchCalculationRequest {
+    /**
+     * 공통 시급 (원/시간, 선택)
+     * 항목에 시급이 없으면 이 값을 사용합니다.
+     */
+    @Min(value = 1, message = "시급은 1원 이상이어야 합니다.")
+    @Max(value = 100_000_000, message = "시급은 1억원 이하로 입력해주세요.")
+    private Long hourlyWage;
+    
+    /**
+     * 계산 요청 목록 (최대 10,000개, 입력 순서대로 결과 반환)
+     */
+    @NotNull(message = "계산 요청 목록은 필수 입력 항목입니다.")
+    @Size(min = 1, max = 10_000, message = "계산 요청은 1개 이상 10,000개 이하여야 합니다.")
+    private List<CalculationRequest> requests;
+}
@@ -0,0 +1,30 @@
+package com.opportunitycost.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 계산 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCalculationResponse {
+    /**
+     * 항목별 결과 (요청 순서와 동일)
+     */
+    private List<BatchItemResult> results;
+    
+    /**
+     * 성공한 항목 수
+     */
+    private Integer successCount;
+    
+    /**
+     * 실패한 항목 수
+     */
+    private Integer failureCount;
+}
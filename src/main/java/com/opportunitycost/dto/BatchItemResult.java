@@ -0,0 +1,41 @@
+package com.opportunitycost.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 일괄 계산의 항목별 결과
+ * 성공 시 result, 실패 시 errors만 채워집니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult {
+    /**
+     * 요청 목록에서의 위치 (0부터 시작)
+     */
+    private Integer index;
+    
+    /**
+     * 계산 결과 (성공 시)
+     */
+    private CalculationResponse result;
+    
+    /**
+     * 검증 오류 (필드명 → 메시지, 실패 시)
+     */
+    private Map<String, String> errors;
+
+    public static BatchItemResult success(int index, CalculationResponse result) {
+        return new BatchItemResult(index, result, null);
+    }
+
+    public static BatchItemResult failure(int index, Map<String, String> errors) {
+        return new BatchItemResult(index, null, errors);
+    }
+}
@@ -0,0 +1,29 @@
+package com.opportunitycost.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 손익분기점 정보
+ * 이 시급에서 두 선택지의 총 비용이 같아지며, 시급이 더 높아지면 toOption이 유리해집니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BreakEvenPoint {
+    /**
+     * 손익분기 시급 (원/시간) = 60 × (직접 비용 차이) ÷ (소요 시간 차이)
+     */
+    private Double wage;
+    
+    /**
+     * 손익분기 시급 미만에서 유리한 선택지 번호 (1부터 시작)
+     */
+    private Integer fromOption;
+    
+    /**
+     * 손익분기 시급 초과에서 유리한 선택지 번호 (1부터 시작)
+     */
+    private Integer toOption;
+}
@@ -0,0 +1,38 @@
+package com.opportunitycost.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 등록된 선택지 묶음의 최저 비용 선택지 조회 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheapestOptionResponse {
+    /**
+     * 선택지 묶음 ID
+     */
+    private Long optionSetId;
+    
+    /**
+     * 조회한 시급 (원/시간)
+     */
+    private Long hourlyWage;
+    
+    /**
+     * 총 비용이 가장 낮은 선택지 번호 (1부터 시작)
+     */
+    private Integer cheapestOption;
+    
+    /**
+     * 선택지 이름
+     */
+    private String optionName;
+    
+    /**
+     * 비용 분해 정보
+     */
+    private CostBreakdown breakdown;
+}
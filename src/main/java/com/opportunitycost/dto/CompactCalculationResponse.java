@@ -0,0 +1,54 @@
+package com.opportunitycost.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기회비용 계산 간결 응답 DTO (compact=true)
+ *
+ * 계산식 설명을 제외하고, 비용 분해를 [직접 비용, 시간 비용, 총 비용] 배열로,
+ * 필드명을 짧은 이름으로 직렬화하여 응답 크기를 줄입니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactCalculationResponse {
+    /**
+     * 선택지 A의 비용 분해 [직접 비용, 시간 비용, 총 비용]
+     */
+    @JsonProperty("a")
+    private long[] optionA;
+    
+    /**
+     * 선택지 B의 비용 분해 [직접 비용, 시간 비용, 총 비용]
+     */
+    @JsonProperty("b")
+    private long[] optionB;
+    
+    /**
+     * 추천 선택지 ("A", "B", 또는 "동일")
+     */
+    @JsonProperty("r")
+    private String recommendation;
+    
+    /**
+     * 총 비용 차액 (원, 절댓값)
+     */
+    @JsonProperty("d")
+    private long costDifference;
+
+    public static CompactCalculationResponse from(CalculationResponse response) {
+        return new CompactCalculationResponse(
+            toArray(response.getOptionA()),
+            toArray(response.getOptionB()),
+            response.getRecommendation(),
+            response.getCostDifference()
+        );
+    }
+
+    static long[] toArray(CostBreakdown breakdown) {
+        return new long[] {breakdown.getDirectCost(), breakdown.getTimeCost(), breakdown.getTotalCost()};
+    }
+}
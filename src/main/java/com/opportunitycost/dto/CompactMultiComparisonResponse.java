@@ -0,0 +1,71 @@
+package com.opportunitycost.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 다안 비교 간결 응답 DTO (compact=true)
+ *
+ * 계산식 설명과 선택지 이름을 제외하고, 각 결과를
+ * [선택지 번호, 직접 비용, 시간 비용, 총 비용] 배열로 직렬화합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactMultiComparisonResponse {
+    /**
+     * 총 비용 오름차순 결과 [선택지 번호, 직접 비용, 시간 비용, 총 비용]
+     */
+    @JsonProperty("res")
+    private long[][] results;
+    
+    /**
+     * 추천 선택지 번호 (동일한 경우 null)
+     */
+    @JsonProperty("r")
+    private Integer recommendedOption;
+    
+    /**
+     * 최소 총 비용
+     */
+    @JsonProperty("min")
+    private long minTotalCost;
+    
+    /**
+     * 최대 총 비용
+     */
+    @JsonProperty("max")
+    private long maxTotalCost;
+    
+    /**
+     * 최대 차액
+     */
+    @JsonProperty("d")
+    private long maxDifference;
+
+    public static CompactMultiComparisonResponse from(MultiComparisonResponse response) {
+        List<OptionResult> optionResults = response.getResults();
+        long[][] results = new long[optionResults.size()][];
+        for (int i = 0; i < results.length; i++) {
+            OptionResult result = optionResults.get(i);
+            CostBreakdown breakdown = result.getBreakdown();
+            results[i] = new long[] {
+                result.getOptionNumber(),
+                breakdown.getDirectCost(),
+                breakdown.getTimeCost(),
+                breakdown.getTotalCost()
+            };
+        }
+        return new CompactMultiComparisonResponse(
+            results,
+            response.getRecommendedOption(),
+            response.getMinTotalCost(),
+            response.getMaxTotalCost(),
+            response.getMaxDifference()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.opportunitycost.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비용 곡선의 한 점 (특정 시급에서의 선택지별 총 비용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CostCurvePoint {
+    /**
+     * 시급 (원/시간)
+     */
+    private Long wage;
+    
+    /**
+     * 선택지별 총 비용 (입력 순서)
+     */
+    private long[] totalCosts;
+    
+    /**
+     * 총 비용이 가장 낮은 선택지 번호 (1부터 시작, 동일한 경우 null)
+     */
+    private Integer cheapestOption;
+}
@@ -0,0 +1,31 @@
+package com.opportunitycost.dto;
+
+import com.opportunitycost.model.ComparisonOption;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 대량 다안 비교 요청 DTO (2~100,000개 선택지)
+ */
+@Data
+public class LargeComparisonRequest {
+    /**
+     * 시급 (원/시간)
+     */
+    @NotNull(message = "시급은 필수 입력 항목입니다.")
+    @Min(value = 1, message = "시급은 1원 이상이어야 합니다.")
+    private Long hourlyWage;
+    
+    /**
+     * 비교할 선택지 목록 (2~100,000개, 선택지 번호는 입력 순서)
+     */
+    @NotNull(message = "선택지는 필수 입력 항목입니다.")
+    @Size(min = 2, max = 100_000, message = "선택지는 2개 이상 100,000개 이하여야 합니다.")
+    @Valid
+    private List<@NotNull(message = "선택지 항목은 비어 있을 수 없습니다.") ComparisonOption> options;
+}
@@ -0,0 +1,71 @@
+package com.opportunitycost.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대량 다안 비교 응답 DTO
+ * 총 비용 오름차순 순위 중 요청한 페이지의 선택지만 포함합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LargeComparisonResponse {
+    /**
+     * 요청한 페이지의 선택지 결과 (내림 전 총 비용 오름차순, 동일 비용은 소요 시간이 짧은 것, 그다음 입력 순서)
+     */
+    private List<OptionResult> results;
+    
+    /**
+     * 전체 선택지 개수
+     */
+    private Integer totalOptions;
+    
+    /**
+     * 순위 조건(topK, 총 비용 상한, 차액 상한)을 만족하는 선택지 개수 (조건이 없으면 전체 선택지 개수)
+     */
+    private Integer matchedOptions;
+    
+    /**
+     * 페이지 번호 (0부터 시작)
+     */
+    private Integer page;
+    
+    /**
+     * 페이지 크기
+     */
+    private Integer size;
+    
+    /**
+     * 추천 선택지 번호 (1부터 시작, 최소 비용이 동일한 선택지가 여러 개이면 null)
+     */
+    private Integer recommendedOption;
+    
+    /**
+     * 최소 총 비용인 선택지 개수
+     */
+    private Integer minCostOptionCount;
+    
+    /**
+     * 최소 총 비용
+     */
+    private Long minTotalCost;
+    
+    /**
+     * 최대 총 비용
+     */
+    private Long maxTotalCost;
+    
+    /**
+     * 최대 차액 (최대 비용 - 최소 비용)
+     */
+    private Long maxDifference;
+    
+    /**
+     * 계산식 설명
+     */
+    private String formula;
+}
@@ -27,5 +27,5 @@ public class MultiComparisonRequest {
     @NotNull(message = "선택지는 필수 입력 항목입니다.")
     @Size(min = 3, max = 5, message = "선택지는 3개 이상 5개 이하여야 합니다.")
     @Valid
-    private List<ComparisonOption> options;
+    private List<@NotNull(message = "선택지 항목은 비어 있을 수 없습니다.") ComparisonOption> options;
 }
@@ -0,0 +1,23 @@
+package com.opportunitycost.dto;
+
+import com.opportunitycost.model.ComparisonOption;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 선택지 묶음 등록 요청 DTO (2~100,000개 선택지)
+ */
+@Data
+public class OptionSetRequest {
+    /**
+     * 등록할 선택지 목록 (선택지 번호는 입력 순서)
+     */
+    @NotNull(message = "선택지는 필수 입력 항목입니다.")
+    @Size(min = 2, max = 100_000, message = "선택지는 2개 이상 100,000개 이하여야 합니다.")
+    @Valid
+    private List<@NotNull(message = "선택지 항목은 비어 있을 수 없습니다.") ComparisonOption> options;
+}
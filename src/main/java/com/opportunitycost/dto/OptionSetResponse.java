@@ -0,0 +1,28 @@
+package com.opportunitycost.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 선택지 묶음 등록 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OptionSetResponse {
+    /**
+     * 선택지 묶음 ID (최저 비용 조회 시 사용)
+     */
+    private Long id;
+    
+    /**
+     * 등록된 선택지 개수
+     */
+    private Integer optionCount;
+    
+    /**
+     * 어떤 시급에서든 최저 비용이 될 수 있는 선택지 개수
+     */
+    private Integer candidateCount;
+}
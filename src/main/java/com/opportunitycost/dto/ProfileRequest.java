@@ -0,0 +1,27 @@
+package com.opportunitycost.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * 시급 프로필 저장 요청 DTO
+ */
+@Data
+public class ProfileRequest {
+    /**
+     * 프로필 이름 (선택)
+     */
+    @Size(max = 100, message = "프로필 이름은 100자 이하로 입력해주세요.")
+    private String name;
+    
+    /**
+     * 시급 (원/시간)
+     */
+    @NotNull(message = "시급은 필수 입력 항목입니다.")
+    @Min(value = 1, message = "시급은 1원 이상이어야 합니다.")
+    @Max(value = 100_000_000, message = "시급은 1억원 이하로 입력해주세요.")
+    private Long hourlyWage;
+}
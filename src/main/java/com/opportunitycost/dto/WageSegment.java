@@ -0,0 +1,33 @@
+package com.opportunitycost.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 같은 선택지가 가장 유리한 시급 구간 (양 끝 포함, 원/시간)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WageSegment {
+    /**
+     * 구간 시작 시급
+     */
+    private Long fromWage;
+    
+    /**
+     * 구간 끝 시급
+     */
+    private Long toWage;
+    
+    /**
+     * 구간에서 총 비용이 가장 낮은 선택지 번호 (1부터 시작)
+     */
+    private Integer cheapestOption;
+    
+    /**
+     * 선택지 이름
+     */
+    private String optionName;
+}
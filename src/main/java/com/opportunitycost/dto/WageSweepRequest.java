@@ -0,0 +1,49 @@
+package com.opportunitycost.dto;
+
+import com.opportunitycost.model.ComparisonOption;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 시급 구간 분석 요청 DTO
+ * 시급 범위 안에서 선택지별 총 비용이 어떻게 바뀌는지 한 번에 계산합니다.
+ */
+@Data
+public class WageSweepRequest {
+    /**
+     * 비교할 선택지 목록 (2~1,000개)
+     */
+    @NotNull(message = "선택지는 필수 입력 항목입니다.")
+    @Size(min = 2, max = 1_000, message = "선택지는 2개 이상 1,000개 이하여야 합니다.")
+    @Valid
+    private List<@NotNull(message = "선택지 항목은 비어 있을 수 없습니다.") ComparisonOption> options;
+    
+    /**
+     * 분석할 최소 시급 (원/시간)
+     */
+    @NotNull(message = "최소 시급은 필수 입력 항목입니다.")
+    @Min(value = 1, message = "최소 시급은 1원 이상이어야 합니다.")
+    @Max(value = 100_000_000, message = "최소 시급은 1억원 이하로 입력해주세요.")
+    private Long minWage;
+    
+    /**
+     * 분석할 최대 시급 (원/시간)
+     */
+    @NotNull(message = "최대 시급은 필수 입력 항목입니다.")
+    @Min(value = 1, message = "최대 시급은 1원 이상이어야 합니다.")
+    @Max(value = 100_000_000, message = "최대 시급은 1억원 이하로 입력해주세요.")
+    private Long maxWage;
+    
+    /**
+     * 비용 곡선 샘플 개수 (0이면 곡선 생략, 최대 1,000개)
+     */
+    @Min(value = 0, message = "샘플 개수는 0개 이상이어야 합니다.")
+    @Max(value = 1_000, message = "샘플 개수는 1,000개 이하로 입력해주세요.")
+    private Integer samples;
+}
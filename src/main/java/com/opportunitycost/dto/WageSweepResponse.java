@@ -0,0 +1,30 @@
+package com.opportunitycost.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 시급 구간 분석 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WageSweepResponse {
+    /**
+     * 시급 범위 안의 손익분기점 (시급 오름차순)
+     */
+    private List<BreakEvenPoint> breakEvenPoints;
+    
+    /**
+     * 가장 유리한 선택지가 같은 시급 구간 (시급 오름차순, 범위 전체를 덮음)
+     */
+    private List<WageSegment> segments;
+    
+    /**
+     * 샘플 시급별 비용 곡선 (samples가 0이면 빈 목록)
+     */
+    private List<CostCurvePoint> curve;
+}
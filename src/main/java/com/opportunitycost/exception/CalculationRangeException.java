@@ -0,0 +1,22 @@
+package com.opportunitycost.exception;
+
+/**
+ * 계산 결과가 long 범위를 넘거나 논리적으로 맞지 않는 경우
+ *
+ * 원인이 항상 사용자 입력이므로 스택 트레이스를 만들지 않으며,
+ * 전역 예외 처리 핸들러는 미리 만든 오류 본문으로 응답합니다.
+ * 기존 처리(IllegalArgumentException)와 호환되도록 IllegalArgumentException을 상속합니다.
+ */
+public class CalculationRangeException extends IllegalArgumentException {
+
+    public static final String MESSAGE = "계산 결과가 범위를 초과했습니다. 입력값을 확인해주세요.";
+
+    public CalculationRangeException() {
+        super(MESSAGE);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
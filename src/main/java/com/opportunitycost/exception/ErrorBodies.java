@@ -0,0 +1,66 @@
+package com.opportunitycost.exception;
+
+import java.util.Map;
+
+/**
+ * 내용이 고정된 오류 응답 본문
+ *
+ * 서블릿/리액티브 모드의 예외 처리와 일괄 계산의 항목별 오류가 같은 (변경 불가) 맵을 공유하므로,
+ * 오류마다 본문을 새로 만들지 않고 두 웹 스택의 문구도 어긋나지 않습니다.
+ */
+public final class ErrorBodies {
+
+    /**
+     * 요청 본문(JSON) 파싱 오류
+     */
+    public static final Map<String, String> PARSE_ERROR = Map.of(
+        "error", "요청 형식이 올바르지 않습니다.",
+        "message", "JSON 형식을 다시 확인해주세요.");
+
+    /**
+     * 계산 결과 범위 초과 ({@link CalculationRangeException})
+     */
+    public static final Map<String, String> CALCULATION_RANGE_ERROR = Map.of(
+        "error", "잘못된 입력값입니다.",
+        "message", CalculationRangeException.MESSAGE);
+
+    /**
+     * 필수 값 누락
+     */
+    public static final Map<String, String> MISSING_VALUE_ERROR = Map.of(
+        "error", "필수 값이 누락되었습니다.",
+        "message", "모든 필드를 입력해주세요.");
+
+    /**
+     * 예상하지 못한 서버 오류
+     */
+    public static final Map<String, String> SERVER_ERROR = Map.of(
+        "error", "서버 오류가 발생했습니다.",
+        "message", "잠시 후 다시 시도해주세요.");
+
+    /**
+     * 일괄 계산의 빈(null) 항목
+     */
+    public static final Map<String, String> EMPTY_BATCH_ITEM = Map.of(
+        "request", "계산 요청 항목이 비어 있습니다.");
+
+    /**
+     * 스트리밍 계산의 길이 상한을 넘은 요청 줄
+     */
+    public static final Map<String, String> STREAM_LINE_TOO_LONG = Map.of(
+        "request", "요청 한 줄이 최대 길이를 넘었습니다.");
+
+    private ErrorBodies() {
+    }
+
+    /**
+     * 메시지가 입력마다 다른 잘못된 입력 오류 (고정 메시지는 위 상수 사용)
+     *
+     * @param message 오류 메시지
+     */
+    public static Map<String, String> invalidInput(String message) {
+        return message != null && message.equals(CalculationRangeException.MESSAGE)
+            ? CALCULATION_RANGE_ERROR
+            : Map.of("error", "잘못된 입력값입니다.", "message", String.valueOf(message));
+    }
+}
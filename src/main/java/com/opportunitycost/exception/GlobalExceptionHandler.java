@@ -1,5 +1,6 @@
 package com.opportunitycost.exception;
 
+import com.opportunitycost.metrics.CalculationMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -13,6 +14,8 @@ import java.util.Map;
 
 /**
  * 전역 예외 처리 핸들러
+ *
+ * 내용이 고정된 오류 본문은 {@link ErrorBodies}의 미리 만든 (변경 불가) 맵으로 응답합니다.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -24,13 +27,47 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<Map<String, String>> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
-        logger.warn("요청 본문 파싱 오류: {}", ex.getMostSpecificCause().getMessage());
+        // 클라이언트 입력 오류이므로 요청마다 DEBUG로만 기록하고, 건수는 메트릭으로 확인
+        logger.debug("요청 본문 파싱 오류: {}", ex.getMostSpecificCause().getMessage());
+        CalculationMetrics.recordValidationFailure(CalculationMetrics.FIELD_BODY);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ErrorBodies.PARSE_ERROR);
+    }
+
+    /**
+     * 계산 결과 범위 초과 처리 (입력 오류이므로 스택 트레이스 없이 DEBUG로만 기록)
+     */
+    @ExceptionHandler(CalculationRangeException.class)
+    public ResponseEntity<Map<String, String>> handleCalculationRangeException(CalculationRangeException ex) {
+        logger.debug("계산 결과 범위 초과");
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ErrorBodies.CALCULATION_RANGE_ERROR);
+    }
+
+    /**
+     * 등록되지 않은 선택지 묶음 조회 처리
+     */
+    @ExceptionHandler(OptionSetNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleOptionSetNotFoundException(OptionSetNotFoundException ex) {
+        logger.debug("선택지 묶음 없음: {}", ex.getOptionSetId());
+
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "선택지 묶음을 찾을 수 없습니다.");
+        errorResponse.put("message", "등록된 선택지 묶음 ID인지 확인해주세요: " + ex.getOptionSetId());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * 저장되지 않은 시급 프로필 조회 처리
+     */
+    @ExceptionHandler(ProfileNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleProfileNotFoundException(ProfileNotFoundException ex) {
+        logger.debug("시급 프로필 없음: {}", ex.getProfileId());
 
         Map<String, String> errorResponse = new HashMap<>();
-        errorResponse.put("error", "요청 형식이 올바르지 않습니다.");
-        errorResponse.put("message", "JSON 형식을 다시 확인해주세요.");
+        errorResponse.put("error", "시급 프로필을 찾을 수 없습니다.");
+        errorResponse.put("message", "저장된 프로필 ID인지 확인해주세요: " + ex.getProfileId());
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
     /**
@@ -38,13 +75,8 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException ex) {
-        logger.warn("잘못된 인자: {}", ex.getMessage());
-        
-        Map<String, String> errorResponse = new HashMap<>();
-        errorResponse.put("error", "잘못된 입력값입니다.");
-        errorResponse.put("message", ex.getMessage());
-        
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        logger.debug("잘못된 인자: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ErrorBodies.invalidInput(ex.getMessage()));
     }
 
     /**
@@ -53,12 +85,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(NullPointerException.class)
     public ResponseEntity<Map<String, String>> handleNullPointerException(NullPointerException ex) {
         logger.error("NullPointerException 발생", ex);
-        
-        Map<String, String> errorResponse = new HashMap<>();
-        errorResponse.put("error", "필수 값이 누락되었습니다.");
-        errorResponse.put("message", "모든 필드를 입력해주세요.");
-        
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ErrorBodies.MISSING_VALUE_ERROR);
     }
 
     /**
@@ -67,11 +94,6 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleException(Exception ex) {
         logger.error("예상치 못한 오류 발생", ex);
-
-        Map<String, String> errorResponse = new HashMap<>();
-        errorResponse.put("error", "서버 오류가 발생했습니다.");
-        errorResponse.put("message", "잠시 후 다시 시도해주세요.");
-
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ErrorBodies.SERVER_ERROR);
     }
 }
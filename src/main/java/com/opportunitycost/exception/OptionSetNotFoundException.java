@@ -0,0 +1,18 @@
+package com.opportunitycost.exception;
+
+/**
+ * 등록되지 않은 선택지 묶음 ID로 조회한 경우
+ */
+public class OptionSetNotFoundException extends RuntimeException {
+
+    private final long optionSetId;
+
+    public OptionSetNotFoundException(long optionSetId) {
+        super("선택지 묶음을 찾을 수 없습니다: " + optionSetId);
+        this.optionSetId = optionSetId;
+    }
+
+    public long getOptionSetId() {
+        return optionSetId;
+    }
+}
@@ -0,0 +1,18 @@
+package com.opportunitycost.exception;
+
+/**
+ * 저장되지 않은 시급 프로필 ID로 조회한 경우
+ */
+public class ProfileNotFoundException extends RuntimeException {
+
+    private final long profileId;
+
+    public ProfileNotFoundException(long profileId) {
+        super("시급 프로필을 찾을 수 없습니다: " + profileId);
+        this.profileId = profileId;
+    }
+
+    public long getProfileId() {
+        return profileId;
+    }
+}
@@ -0,0 +1,55 @@
+package com.opportunitycost.metrics;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.opportunitycost.service.CalculationCacheService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계산 캐시 통계 요약 로그
+ *
+ * 요청마다 INFO 로그를 남기는 대신, 일정 주기로 구간 요약(요청 수, 히트율, 축출 수)을 한 줄 남깁니다.
+ * 주기: calculation.stats.log-interval (기본 5분)
+ */
+@Component
+public class CacheStatsLogger {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheStatsLogger.class);
+
+    private final CalculationCacheService cacheService;
+
+    private CacheStats lastStats = CacheStats.empty();
+    private CacheStats lastMultiStats = CacheStats.empty();
+
+    public CacheStatsLogger(CalculationCacheService cacheService) {
+        this.cacheService = cacheService;
+    }
+
+    /**
+     * 직전 요약 이후의 구간 통계를 로그로 남깁니다. 요청이 없었던 구간은 생략합니다.
+     */
+    @Scheduled(fixedDelayString = "${calculation.stats.log-interval:PT5M}",
+               initialDelayString = "${calculation.stats.log-interval:PT5M}")
+    public synchronized void logSummary() {
+        CacheStats stats = cacheService.getCacheStats();
+        CacheStats multiStats = cacheService.getMultiCacheStats();
+        CacheStats interval = stats.minus(lastStats);
+        CacheStats multiInterval = multiStats.minus(lastMultiStats);
+        lastStats = stats;
+        lastMultiStats = multiStats;
+
+        if (interval.requestCount() == 0 && multiInterval.requestCount() == 0) {
+            return;
+        }
+        logger.info("계산 캐시 요약 - 2안: 요청 {}건, 히트율 {}%, 축출 {}건 / 다안: 요청 {}건, 히트율 {}%, 축출 {}건 / 크기: {}, {}",
+            interval.requestCount(), percent(interval.hitRate()), interval.evictionCount(),
+            multiInterval.requestCount(), percent(multiInterval.hitRate()), multiInterval.evictionCount(),
+            cacheService.getCacheSize(), cacheService.getMultiCacheSize());
+    }
+
+    private static long percent(double rate) {
+        return Math.round(rate * 100);
+    }
+}
@@ -0,0 +1,74 @@
+package com.opportunitycost.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * 계산 관련 커스텀 메트릭
+ *
+ * Spring Boot가 등록하는 전역 레지스트리(Metrics.globalRegistry)에 기록하므로
+ * 빈 주입 없이 서비스/컨트롤러 어디서나 사용할 수 있습니다.
+ * (레지스트리가 없는 단위 테스트에서는 기록되지 않습니다)
+ */
+public final class CalculationMetrics {
+
+    /**
+     * 입력 검증 실패 횟수 (태그: field)
+     */
+    public static final String VALIDATION_FAILURES = "opportunitycost.validation.failures";
+
+    /**
+     * 경고 기준 초과 횟수 (태그: type)
+     */
+    public static final String WARNINGS = "opportunitycost.warnings";
+
+    /**
+     * 진행 중인 같은 계산에 합류하여 계산을 생략한 요청 수 (태그: operation)
+     */
+    public static final String COALESCED_REQUESTS = "opportunitycost.requests.coalesced";
+
+    // 경고 종류
+    public static final String WARNING_HIGH_WAGE = "high_wage";
+    public static final String WARNING_HIGH_TOTAL_COST = "high_total_cost";
+    public static final String WARNING_TIME_COST_RATIO = "time_cost_ratio";
+    public static final String WARNING_TOTAL_COST_OVER_LIMIT = "total_cost_over_limit";
+    public static final String WARNING_ZERO_TIME_COST = "zero_time_cost";
+
+    // 요청 본문 자체를 읽지 못한 경우의 field 태그 값 (JSON 형식 오류 등)
+    public static final String FIELD_BODY = "body";
+
+    // 목록 인덱스 제거 (options[3].timeMinutes → options[].timeMinutes), 태그 값 종류를 제한
+    private static final Pattern LIST_INDEX = Pattern.compile("\\[\\d+]");
+
+    private CalculationMetrics() {
+    }
+
+    /**
+     * 입력 검증 실패를 기록합니다.
+     *
+     * @param field 실패한 필드 경로 (예: optionA.timeMinutes)
+     */
+    public static void recordValidationFailure(String field) {
+        String normalized = field.indexOf('[') < 0 ? field : LIST_INDEX.matcher(field).replaceAll("[]");
+        Metrics.counter(VALIDATION_FAILURES, "field", normalized).increment();
+    }
+
+    /**
+     * 경고 기준 초과를 기록합니다.
+     *
+     * @param type 경고 종류 (WARNING_* 상수)
+     */
+    public static void recordWarning(String type) {
+        Metrics.counter(WARNINGS, "type", type).increment();
+    }
+
+    /**
+     * 진행 중인 같은 계산에 합류한 요청을 기록합니다.
+     *
+     * @param operation 계산 종류 (calculate, multi)
+     */
+    public static void recordCoalesced(String operation) {
+        Metrics.counter(COALESCED_REQUESTS, "operation", operation).increment();
+    }
+}
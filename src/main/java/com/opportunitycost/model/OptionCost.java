@@ -0,0 +1,21 @@
+package com.opportunitycost.model;
+
+import com.opportunitycost.dto.CostBreakdown;
+
+/**
+ * 선택지별 비용 계산 결과 (서비스 내부 표현)
+ * 원시 타입만 사용하며, 응답 DTO로는 {@link #toBreakdown()}으로 변환합니다.
+ *
+ * @param directCost 직접 비용 (원)
+ * @param timeCost 시간 비용 (원)
+ * @param totalCost 총 비용 (원)
+ */
+public record OptionCost(long directCost, long timeCost, long totalCost) {
+
+    /**
+     * 응답용 비용 분해 DTO로 변환합니다.
+     */
+    public CostBreakdown toBreakdown() {
+        return new CostBreakdown(directCost, timeCost, totalCost);
+    }
+}
@@ -0,0 +1,28 @@
+package com.opportunitycost.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장된 시급 프로필 모델
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WageProfile {
+    /**
+     * 프로필 ID
+     */
+    private Long id;
+    
+    /**
+     * 프로필 이름 (선택)
+     */
+    private String name;
+    
+    /**
+     * 시급 (원/시간)
+     */
+    private Long hourlyWage;
+}
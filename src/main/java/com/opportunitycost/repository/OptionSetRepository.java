@@ -0,0 +1,112 @@
+package com.opportunitycost.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 선택지 묶음 저장소 (option_set, option_set_option 테이블)
+ *
+ * 선택지는 원시 타입 배열로 주고받으며, 저장은 일괄 INSERT로 처리합니다.
+ * 저장된 묶음 수는 option_set_count 행에 함께 기록하며, 등록 수 제한은 이 행의 조건부 UPDATE 한 문장으로
+ * 검사와 증가를 함께 처리하므로 동시에 등록해도 제한을 넘지 않습니다.
+ */
+@Repository
+public class OptionSetRepository {
+
+    // 일괄 INSERT 한 번에 보내는 행 수
+    private static final int INSERT_BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SimpleJdbcInsert insert;
+
+    public OptionSetRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insert = new SimpleJdbcInsert(jdbcTemplate)
+            .withTableName("option_set")
+            .usingColumns("option_count")
+            .usingGeneratedKeyColumns("id");
+    }
+
+    /**
+     * 저장된 묶음 수가 제한보다 적으면 선택지 묶음을 저장하고 생성된 ID를 반환합니다.
+     *
+     * @param timeMinutes 입력 순서대로의 소요 시간 (분)
+     * @param directCosts 입력 순서대로의 직접 비용 (원)
+     * @param maxCount 저장 가능한 최대 묶음 수
+     * @return 생성된 ID (제한에 도달했으면 저장하지 않고 null)
+     */
+    @Transactional
+    public Long save(int[] timeMinutes, long[] directCosts, long maxCount) {
+        // 행 잠금으로 동시 등록이 차례로 검사되며, 저장이 실패하면 트랜잭션과 함께 되돌려짐
+        int reserved = jdbcTemplate.update(
+            "UPDATE option_set_count SET stored = stored + 1 WHERE id = 1 AND stored < ?", maxCount);
+        if (reserved == 0) {
+            return null;
+        }
+
+        long id = insert.executeAndReturnKey(new MapSqlParameterSource()
+            .addValue("option_count", timeMinutes.length)).longValue();
+
+        List<Object[]> rows = new ArrayList<>(Math.min(timeMinutes.length, INSERT_BATCH_SIZE));
+        for (int i = 0; i < timeMinutes.length; i++) {
+            rows.add(new Object[] {id, i, timeMinutes[i], directCosts[i]});
+            if (rows.size() == INSERT_BATCH_SIZE || i == timeMinutes.length - 1) {
+                jdbcTemplate.batchUpdate(
+                    "INSERT INTO option_set_option (option_set_id, position, time_minutes, direct_cost) VALUES (?, ?, ?, ?)",
+                    rows);
+                rows.clear();
+            }
+        }
+        return id;
+    }
+
+    /**
+     * 저장된 선택지 묶음을 입력 순서대로 읽습니다.
+     *
+     * @return 선택지 묶음 (없으면 null)
+     */
+    public StoredOptionSet findById(long id) {
+        List<Integer> counts = jdbcTemplate.queryForList(
+            "SELECT option_count FROM option_set WHERE id = ?", Integer.class, id);
+        if (counts.isEmpty()) {
+            return null;
+        }
+        int[] timeMinutes = new int[counts.get(0)];
+        long[] directCosts = new long[counts.get(0)];
+        jdbcTemplate.query(
+            "SELECT position, time_minutes, direct_cost FROM option_set_option WHERE option_set_id = ?",
+            rs -> {
+                int position = rs.getInt(1);
+                timeMinutes[position] = rs.getInt(2);
+                directCosts[position] = rs.getLong(3);
+            },
+            id);
+        return new StoredOptionSet(id, timeMinutes, directCosts);
+    }
+
+    /**
+     * @return 저장된 선택지 묶음 수
+     */
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM option_set", Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * @return 삭제 여부 (선택지는 ON DELETE CASCADE로 함께 삭제)
+     */
+    @Transactional
+    public boolean deleteById(long id) {
+        if (jdbcTemplate.update("DELETE FROM option_set WHERE id = ?", id) == 0) {
+            return false;
+        }
+        jdbcTemplate.update("UPDATE option_set_count SET stored = stored - 1 WHERE id = 1");
+        return true;
+    }
+}
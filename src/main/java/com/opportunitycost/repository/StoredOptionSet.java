@@ -0,0 +1,11 @@
+package com.opportunitycost.repository;
+
+/**
+ * 저장소에서 읽은 선택지 묶음 (입력 순서대로의 원시 타입 배열)
+ *
+ * @param id 선택지 묶음 ID
+ * @param timeMinutes 소요 시간 (분)
+ * @param directCosts 직접 비용 (원)
+ */
+public record StoredOptionSet(long id, int[] timeMinutes, long[] directCosts) {
+}
@@ -0,0 +1,54 @@
+package com.opportunitycost.repository;
+
+import com.opportunitycost.model.WageProfile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 시급 프로필 저장소 (wage_profile 테이블)
+ */
+@Repository
+public class WageProfileRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SimpleJdbcInsert insert;
+
+    public WageProfileRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insert = new SimpleJdbcInsert(jdbcTemplate)
+            .withTableName("wage_profile")
+            .usingColumns("name", "hourly_wage")
+            .usingGeneratedKeyColumns("id");
+    }
+
+    /**
+     * 프로필을 저장하고 생성된 ID를 반환합니다.
+     */
+    public long save(String name, long hourlyWage) {
+        return insert.executeAndReturnKey(new MapSqlParameterSource()
+            .addValue("name", name)
+            .addValue("hourly_wage", hourlyWage)).longValue();
+    }
+
+    /**
+     * @return 프로필 (없으면 null)
+     */
+    public WageProfile findById(long id) {
+        List<WageProfile> profiles = jdbcTemplate.query(
+            "SELECT id, name, hourly_wage FROM wage_profile WHERE id = ?",
+            (rs, rowNum) -> new WageProfile(rs.getLong("id"), rs.getString("name"), rs.getLong("hourly_wage")),
+            id);
+        return profiles.isEmpty() ? null : profiles.get(0);
+    }
+
+    /**
+     * @return 삭제 여부
+     */
+    public boolean deleteById(long id) {
+        return jdbcTemplate.update("DELETE FROM wage_profile WHERE id = ?", id) > 0;
+    }
+}
@@ -0,0 +1,223 @@
+package com.opportunitycost.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.opportunitycost.dto.*;
+import com.opportunitycost.exception.CalculationRangeException;
+import com.opportunitycost.exception.ErrorBodies;
+import com.opportunitycost.metrics.CalculationMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 일괄 계산 서비스
+ *
+ * 여러 개의 2안 비교 요청을 한 번에 계산합니다.
+ * 항목별로 검증하여 잘못된 항목은 오류로 기록하고 나머지는 정상 계산합니다.
+ * 입력 크기에 관계없이 메모리를 일정하게 쓰는 NDJSON 스트리밍 계산도 제공합니다.
+ */
+@Service
+public class BatchCalculationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchCalculationService.class);
+
+    // 스트리밍 응답을 이 줄 수마다 클라이언트로 내보냄
+    private static final int STREAM_FLUSH_INTERVAL = 256;
+
+    // 스트리밍 요청 한 줄의 최대 문자 수 (넘는 줄은 모아 두지 않고 오류로 기록)
+    static final int MAX_STREAM_LINE_LENGTH = 16_384;
+    
+    // 일괄 계산을 이 크기 단위로 나누어 병렬 처리 (이하이면 요청 스레드에서 바로 처리)
+    static final int BATCH_CHUNK_SIZE = 256;
+
+    private final OpportunityCostService opportunityCostService;
+    private final CalculationRequestValidator requestValidator;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader requestReader;
+    private final Executor executor;
+
+    /**
+     * @param executor 일괄 계산 분할 처리용 실행기
+     *                 (spring.threads.virtual.enabled=true 이면 가상 스레드 기반)
+     */
+    public BatchCalculationService(OpportunityCostService opportunityCostService,
+                                   CalculationRequestValidator requestValidator,
+                                   ObjectMapper objectMapper,
+                                   @Qualifier("applicationTaskExecutor") Executor executor) {
+        this.opportunityCostService = opportunityCostService;
+        this.requestValidator = requestValidator;
+        this.objectMapper = objectMapper;
+        this.requestReader = objectMapper.readerFor(CalculationRequest.class);
+        this.executor = executor;
+    }
+
+    /**
+     * 일괄 계산을 수행합니다.
+     *
+     * @param request 일괄 계산 요청 정보
+     * @return 입력 순서대로의 항목별 결과
+     */
+    public BatchCalculationResponse calculateBatch(BatchCalculationRequest request) {
+        List<CalculationRequest> requests = request.getRequests();
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+
+        if (requests.size() <= BATCH_CHUNK_SIZE) {
+            calculateRange(requests, request.getHourlyWage(), results, 0, requests.size());
+        } else {
+            // 구간별로 나누어 병렬 계산, 결과는 위치별 배열에 저장하여 입력 순서 유지
+            int chunkCount = (requests.size() + BATCH_CHUNK_SIZE - 1) / BATCH_CHUNK_SIZE;
+            CompletableFuture<?>[] chunks = new CompletableFuture<?>[chunkCount];
+            for (int c = 0; c < chunkCount; c++) {
+                int from = c * BATCH_CHUNK_SIZE;
+                int to = Math.min(from + BATCH_CHUNK_SIZE, requests.size());
+                chunks[c] = CompletableFuture.runAsync(
+                    () -> calculateRange(requests, request.getHourlyWage(), results, from, to), executor);
+            }
+            CompletableFuture.allOf(chunks).join();
+        }
+
+        int failureCount = 0;
+        for (BatchItemResult result : results) {
+            if (result.getErrors() != null) {
+                failureCount++;
+            }
+        }
+
+        logger.debug("일괄 계산 완료 - 전체: {}건, 실패: {}건", requests.size(), failureCount);
+
+        return new BatchCalculationResponse(Arrays.asList(results), requests.size() - failureCount, failureCount);
+    }
+
+    private void calculateRange(List<CalculationRequest> requests, Long sharedHourlyWage,
+                                BatchItemResult[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = calculateItem(i, requests.get(i), sharedHourlyWage);
+        }
+    }
+
+    /**
+     * NDJSON 스트리밍 계산을 수행합니다.
+     *
+     * 한 줄에 하나의 계산 요청(JSON)을 읽어 즉시 계산하고, 결과를 한 줄씩 씁니다.
+     * 성공한 줄은 계산 결과를, 실패한 줄은 {"index": n, "errors": {...}}를 씁니다.
+     * 요청을 모아 두지 않고 한 줄도 MAX_STREAM_LINE_LENGTH자까지만 읽으므로,
+     * 입력 크기와 무관하게 메모리 사용량이 일정합니다.
+     *
+     * @param in NDJSON 요청 본문
+     * @param out NDJSON 응답 본문
+     * @return 처리한 줄 수 (빈 줄 제외)
+     */
+    public long calculateStream(InputStream in, OutputStream out) throws IOException {
+        BoundedLineReader reader = new BoundedLineReader(
+            new InputStreamReader(in, StandardCharsets.UTF_8), MAX_STREAM_LINE_LENGTH);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(new SerializedString(""));
+
+        long index = 0;
+        long failureCount = 0;
+        while (reader.next()) {
+            int itemIndex = (int) Math.min(index, Integer.MAX_VALUE);
+            BatchItemResult result;
+            if (reader.isTooLong()) {
+                result = lineTooLong(itemIndex);
+            } else {
+                String line = reader.line();
+                if (line.isBlank()) {
+                    continue;
+                }
+                result = calculateLine(itemIndex, line);
+            }
+            if (result.getErrors() != null) {
+                failureCount++;
+                objectMapper.writeValue(generator, result);
+            } else {
+                objectMapper.writeValue(generator, result.getResult());
+            }
+            generator.writeRaw('\n');
+
+            if (++index % STREAM_FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+
+        logger.debug("스트리밍 계산 완료 - 전체: {}건, 실패: {}건", index, failureCount);
+        return index;
+    }
+
+    /**
+     * NDJSON 한 줄을 파싱·검증 후 계산합니다.
+     *
+     * @param index 줄 위치 (빈 줄 제외, 0부터 시작)
+     * @param line 계산 요청 JSON 한 줄
+     * @return 항목별 결과 (성공 또는 오류)
+     */
+    public BatchItemResult calculateLine(int index, String line) {
+        if (line.length() > MAX_STREAM_LINE_LENGTH) {
+            return lineTooLong(index);
+        }
+        CalculationRequest item;
+        try {
+            item = requestReader.readValue(line);
+        } catch (JsonProcessingException ex) {
+            logger.debug("스트리밍 요청 파싱 오류 - {}번째 줄: {}", index, ex.getOriginalMessage());
+            CalculationMetrics.recordValidationFailure(CalculationMetrics.FIELD_BODY);
+            return BatchItemResult.failure(index, ErrorBodies.PARSE_ERROR);
+        }
+        return calculateItem(index, item, null);
+    }
+
+    private static BatchItemResult lineTooLong(int index) {
+        logger.debug("스트리밍 요청 줄 길이 초과 - {}번째 줄", index);
+        CalculationMetrics.recordValidationFailure(CalculationMetrics.FIELD_BODY);
+        return BatchItemResult.failure(index, ErrorBodies.STREAM_LINE_TOO_LONG);
+    }
+
+    /**
+     * 단일 항목을 검증 후 계산합니다.
+     *
+     * @param index 요청 목록에서의 위치
+     * @param item 계산 요청
+     * @param sharedHourlyWage 공통 시급 (항목에 시급이 없을 때 사용, null 가능)
+     * @return 항목별 결과 (성공 또는 오류)
+     */
+    BatchItemResult calculateItem(int index, CalculationRequest item, Long sharedHourlyWage) {
+        if (item == null) {
+            return BatchItemResult.failure(index, ErrorBodies.EMPTY_BATCH_ITEM);
+        }
+
+        if (item.getHourlyWage() == null && sharedHourlyWage != null) {
+            item.setHourlyWage(sharedHourlyWage);
+        }
+
+        ValidationResult validation = requestValidator.validate(item);
+        if (!validation.isValid()) {
+            validation.getErrors().keySet().forEach(CalculationMetrics::recordValidationFailure);
+            return BatchItemResult.failure(index, validation.getErrors());
+        }
+
+        try {
+            return BatchItemResult.success(index, opportunityCostService.calculate(item));
+        } catch (CalculationRangeException ex) {
+            return BatchItemResult.failure(index, ErrorBodies.CALCULATION_RANGE_ERROR);
+        } catch (IllegalArgumentException ex) {
+            return BatchItemResult.failure(index, ErrorBodies.invalidInput(ex.getMessage()));
+        }
+    }
+}
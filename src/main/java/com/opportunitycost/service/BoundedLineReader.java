@@ -0,0 +1,90 @@
+package com.opportunitycost.service;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 줄 길이 상한이 있는 줄 단위 읽기
+ *
+ * BufferedReader.readLine과 같은 줄 구분(\n, \r, \r\n)을 따르되, 상한을 넘는 줄은
+ * 앞부분만 남기고 나머지는 버리면서 줄 끝까지 건너뜁니다.
+ * 줄바꿈 없이 큰 본문이 들어와도 메모리 사용량은 상한 크기로 일정합니다.
+ */
+final class BoundedLineReader {
+
+    private final Reader in;
+    private final int maxLength;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+    // 직전 줄이 \r로 끝났으면 바로 뒤의 \n은 같은 줄 구분으로 봄
+    private boolean skipLineFeed;
+    private boolean tooLong;
+
+    /**
+     * @param in 읽을 문자 입력
+     * @param maxLength 한 줄의 최대 문자 수
+     */
+    BoundedLineReader(Reader in, int maxLength) {
+        this.in = in;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * 다음 줄로 이동합니다.
+     *
+     * @return 읽은 줄이 있으면 true, 입력 끝이면 false
+     */
+    boolean next() throws IOException {
+        line.setLength(0);
+        tooLong = false;
+        boolean read = false;
+        while (true) {
+            if (position == limit) {
+                int count = in.read(buffer, 0, buffer.length);
+                position = 0;
+                limit = Math.max(count, 0);
+                if (count < 0) {
+                    return read;
+                }
+                continue;
+            }
+
+            char c = buffer[position++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            read = true;
+            if (c == '\n') {
+                return true;
+            }
+            if (c == '\r') {
+                skipLineFeed = true;
+                return true;
+            }
+            if (line.length() < maxLength) {
+                line.append(c);
+            } else {
+                tooLong = true;
+            }
+        }
+    }
+
+    /**
+     * 현재 줄 (상한을 넘은 줄은 앞부분만)
+     */
+    String line() {
+        return line.toString();
+    }
+
+    /**
+     * 현재 줄이 상한을 넘었는지 여부
+     */
+    boolean isTooLong() {
+        return tooLong;
+    }
+}
@@ -1,46 +1,93 @@
 package com.opportunitycost.service;
 
-import com.opportunitycost.dto.CalculationRequest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.opportunitycost.dto.CalculationResponse;
+import com.opportunitycost.dto.MultiComparisonResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 계산 결과 캐싱 서비스
  * 동일한 입력에 대해 캐시된 결과를 반환하여 성능을 향상시킵니다.
+ *
+ * Caffeine(W-TinyLFU) 기반으로 최대 크기를 엄격히 지키며,
+ * 최근성과 사용 빈도를 함께 고려하여 자주 쓰이는 항목을 남깁니다.
+ * 히트/미스/축출 횟수와 크기는 cache.* 메트릭(cache=calculation, calculation-multi)으로 노출됩니다.
  */
 @Service
-public class CalculationCacheService {
+public class CalculationCacheService implements MeterBinder {
 
     private static final Logger logger = LoggerFactory.getLogger(CalculationCacheService.class);
-    
-    // 간단한 인메모리 캐시 (프로덕션에서는 Redis 등을 사용 권장)
-    private final Map<String, CalculationResponse> cache = new ConcurrentHashMap<>();
-    private static final int MAX_CACHE_SIZE = 100;
+
+    // 기본값 (설정 파일에서 calculation.cache.* 로 변경 가능)
+    static final long DEFAULT_MAX_CACHE_SIZE = 10_000L;
+    static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    private final Cache<CalculationKey, CalculationResponse> cache;
+    // 다안 비교 결과는 별도 캐시로 관리하여 히트/미스를 따로 집계
+    private final Cache<MultiComparisonKey, MultiComparisonResponse> multiCache;
+
+    /**
+     * 기본 설정(최대 10,000개, TTL 1시간)으로 캐시를 생성합니다.
+     */
+    public CalculationCacheService() {
+        this(DEFAULT_MAX_CACHE_SIZE, DEFAULT_TTL);
+    }
 
     /**
-     * 캐시 키 생성
+     * @param maxSize 최대 캐시 항목 수
+     * @param ttl 저장 후 만료 시간 (0 또는 null이면 만료 없음)
      */
-    private String generateCacheKey(CalculationRequest request) {
-        return String.format("%d-%d-%d-%d-%d",
-            request.getHourlyWage(),
-            request.getOptionA().getTimeMinutes(),
-            request.getOptionA().getDirectCost(),
-            request.getOptionB().getTimeMinutes(),
-            request.getOptionB().getDirectCost()
-        );
+    @Autowired
+    public CalculationCacheService(@Value("${calculation.cache.max-size:10000}") long maxSize,
+                                   @Value("${calculation.cache.ttl:1h}") Duration ttl) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 0 이상이어야 합니다: " + maxSize);
+        }
+        this.cache = newCache(maxSize, ttl);
+        this.multiCache = newCache(maxSize, ttl);
+        logger.info("계산 결과 캐시 생성 - 최대 크기: {}, TTL: {}", maxSize, ttl);
+    }
+
+    /**
+     * 캐시 메트릭 등록 (Spring Boot가 MeterBinder 빈을 자동으로 바인딩)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "calculation");
+        CaffeineCacheMetrics.monitor(registry, multiCache, "calculation-multi");
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maxSize, Duration ttl) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .executor(Runnable::run)
+            .recordStats();
+        if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
+            builder.expireAfterWrite(ttl);
+        }
+        return builder.build();
     }
 
     /**
      * 캐시에서 결과 조회
+     *
+     * @param key 요청당 한 번 생성한 캐시 키
      */
-    public CalculationResponse getCachedResult(CalculationRequest request) {
-        String key = generateCacheKey(request);
-        CalculationResponse cached = cache.get(key);
+    public CalculationResponse getCachedResult(CalculationKey key) {
+        CalculationResponse cached = cache.getIfPresent(key);
         if (cached != null) {
             logger.debug("캐시 히트: {}", key);
             return cached;
@@ -49,35 +96,120 @@ public class CalculationCacheService {
         return null;
     }
 
+    /**
+     * 히트/미스 통계와 접근 기록 없이 캐시를 확인합니다 (같은 요청 안에서 다시 확인할 때 사용).
+     */
+    CalculationResponse peekCachedResult(CalculationKey key) {
+        return cache.policy().getIfPresentQuietly(key);
+    }
+
     /**
      * 결과를 캐시에 저장
+     * 크기 제한과 축출은 Caffeine이 원자적으로 처리합니다.
+     *
+     * @param key 조회에 사용한 것과 같은 캐시 키
      */
-    public void cacheResult(CalculationRequest request, CalculationResponse response) {
-        // 캐시 크기 제한
-        if (cache.size() >= MAX_CACHE_SIZE) {
-            // 가장 오래된 항목 제거 (간단한 구현)
-            String firstKey = cache.keySet().iterator().next();
-            cache.remove(firstKey);
-            logger.debug("캐시 항목 제거: {}", firstKey);
-        }
-        
-        String key = generateCacheKey(request);
+    public void cacheResult(CalculationKey key, CalculationResponse response) {
         cache.put(key, response);
         logger.debug("캐시 저장: {}", key);
     }
 
     /**
-     * 캐시 초기화
+     * 캐시에서 다안 비교 결과 조회
+     *
+     * @param key 요청당 한 번 생성한 캐시 키
+     */
+    public MultiComparisonResponse getCachedMultiResult(MultiComparisonKey key) {
+        MultiComparisonResponse cached = multiCache.getIfPresent(key);
+        if (cached != null) {
+            logger.debug("다안 비교 캐시 히트: {}", key);
+            return cached;
+        }
+        logger.debug("다안 비교 캐시 미스: {}", key);
+        return null;
+    }
+
+    /**
+     * 히트/미스 통계와 접근 기록 없이 다안 비교 캐시를 확인합니다.
+     */
+    MultiComparisonResponse peekCachedMultiResult(MultiComparisonKey key) {
+        return multiCache.policy().getIfPresentQuietly(key);
+    }
+
+    /**
+     * 다안 비교 결과를 캐시에 저장
+     *
+     * @param key 조회에 사용한 것과 같은 캐시 키
+     */
+    public void cacheMultiResult(MultiComparisonKey key, MultiComparisonResponse response) {
+        multiCache.put(key, response);
+        logger.debug("다안 비교 캐시 저장: {}", key);
+    }
+
+    /**
+     * 캐시 초기화 (2안 비교, 다안 비교 모두)
      */
     public void clearCache() {
-        cache.clear();
+        cache.invalidateAll();
+        cache.cleanUp();
+        multiCache.invalidateAll();
+        multiCache.cleanUp();
         logger.info("캐시 초기화 완료");
     }
 
     /**
      * 캐시 크기 조회
+     * 보류 중인 축출 작업을 먼저 반영한 뒤 크기를 반환합니다.
      */
     public int getCacheSize() {
-        return cache.size();
+        cache.cleanUp();
+        return (int) cache.estimatedSize();
+    }
+
+    /**
+     * 다안 비교 캐시 크기 조회
+     */
+    public int getMultiCacheSize() {
+        multiCache.cleanUp();
+        return (int) multiCache.estimatedSize();
+    }
+
+    /**
+     * 자주 쓰이는 순서대로 2안 비교 캐시 키를 반환합니다 (스냅샷 저장용).
+     *
+     * @param limit 최대 키 개수
+     */
+    public List<CalculationKey> hottestKeys(int limit) {
+        return hottestKeys(cache, limit);
+    }
+
+    /**
+     * 자주 쓰이는 순서대로 다안 비교 캐시 키를 반환합니다 (스냅샷 저장용).
+     *
+     * @param limit 최대 키 개수
+     */
+    public List<MultiComparisonKey> hottestMultiKeys(int limit) {
+        return hottestKeys(multiCache, limit);
+    }
+
+    private static <K> List<K> hottestKeys(Cache<K, ?> cache, int limit) {
+        // 축출 정책(W-TinyLFU)이 판단한 유지 우선순위 순서
+        return cache.policy().eviction()
+            .map(eviction -> new ArrayList<>(eviction.hottest(limit).keySet()))
+            .orElseGet(ArrayList::new);
+    }
+
+    /**
+     * 2안 비교 캐시 통계 (히트/미스/축출)
+     */
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    /**
+     * 다안 비교 캐시 통계 (히트/미스/축출)
+     */
+    public CacheStats getMultiCacheStats() {
+        return multiCache.stats();
     }
 }
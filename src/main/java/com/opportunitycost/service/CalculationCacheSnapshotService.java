@@ -0,0 +1,253 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.CalculationRequest;
+import com.opportunitycost.dto.MultiComparisonRequest;
+import com.opportunitycost.model.ComparisonOption;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계산 캐시 스냅샷 (재시작 후 캐시 예열)
+ *
+ * 자주 쓰이는 캐시 항목의 키(입력값)만 주기적으로 로컬 파일에 바이너리로 저장하고,
+ * 시작 시 파일의 키로 결과를 다시 계산해 캐시를 채웁니다.
+ * 결과 대신 키만 저장하므로 파일이 작고, 배포 사이에 응답 형식이나 계산식 문구가 바뀌어도
+ * 항상 현재 코드로 계산한 결과가 캐시에 들어갑니다.
+ * 키는 현재 검증 규칙으로 다시 검증하며, 예열은 캐시 히트/미스 통계에 포함되지 않습니다.
+ *
+ * 복원은 ApplicationReadyEvent에서 동기로 수행하므로, 준비 상태(readiness)가
+ * 트래픽 수신으로 바뀌기 전에 끝납니다.
+ */
+@Service
+public class CalculationCacheSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CalculationCacheSnapshotService.class);
+
+    // 파일 형식: 매직 넘버, 버전, 2안 비교 키 목록, 다안 비교 키 목록
+    private static final int MAGIC = 0x4F43_4353; // "OCCS"
+    private static final int VERSION = 1;
+
+    private final CalculationCacheService cacheService;
+    private final OpportunityCostService opportunityCostService;
+    private final CalculationRequestValidator requestValidator;
+    private final boolean enabled;
+    private final Path path;
+    private final int maxEntries;
+
+    /**
+     * @param enabled 스냅샷 저장/복원 여부
+     * @param path 스냅샷 파일 경로
+     * @param maxEntries 캐시별로 저장하는 최대 키 개수
+     */
+    public CalculationCacheSnapshotService(CalculationCacheService cacheService,
+                                           OpportunityCostService opportunityCostService,
+                                           CalculationRequestValidator requestValidator,
+                                           @Value("${calculation.cache.snapshot.enabled:false}") boolean enabled,
+                                           @Value("${calculation.cache.snapshot.path:./data/calculation-cache.snapshot}") String path,
+                                           @Value("${calculation.cache.snapshot.max-entries:2000}") int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("스냅샷 최대 항목 수는 0 이상이어야 합니다: " + maxEntries);
+        }
+        this.cacheService = cacheService;
+        this.opportunityCostService = opportunityCostService;
+        this.requestValidator = requestValidator;
+        this.enabled = enabled;
+        this.path = Paths.get(path);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 시작 시 스냅샷 파일의 키로 캐시를 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreOnStartup() {
+        if (enabled) {
+            restore();
+        }
+    }
+
+    /**
+     * 주기적으로 스냅샷을 저장합니다 (calculation.cache.snapshot.interval, 기본 1분).
+     */
+    @Scheduled(fixedDelayString = "${calculation.cache.snapshot.interval:PT1M}",
+               initialDelayString = "${calculation.cache.snapshot.interval:PT1M}")
+    public void savePeriodically() {
+        if (enabled) {
+            save();
+        }
+    }
+
+    /**
+     * 종료 직전 마지막 스냅샷을 저장합니다 (순차 재시작 시 다음 인스턴스가 바로 사용).
+     */
+    @PreDestroy
+    public void saveOnShutdown() {
+        if (enabled) {
+            save();
+        }
+    }
+
+    /**
+     * 자주 쓰이는 캐시 키를 스냅샷 파일에 저장합니다.
+     * 임시 파일에 쓴 뒤 교체하므로, 저장 중 종료되어도 이전 스냅샷이 남습니다.
+     *
+     * @return 저장한 키 개수 (실패 시 -1)
+     */
+    public synchronized int save() {
+        List<CalculationKey> keys = cacheService.hottestKeys(maxEntries);
+        List<MultiComparisonKey> multiKeys = cacheService.hottestMultiKeys(maxEntries);
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+
+                out.writeInt(keys.size());
+                for (CalculationKey key : keys) {
+                    out.writeLong(key.getHourlyWage());
+                    out.writeInt(key.getTimeMinutesA());
+                    out.writeLong(key.getDirectCostA());
+                    out.writeInt(key.getTimeMinutesB());
+                    out.writeLong(key.getDirectCostB());
+                }
+
+                out.writeInt(multiKeys.size());
+                for (MultiComparisonKey key : multiKeys) {
+                    out.writeLong(key.getHourlyWage());
+                    out.writeByte(key.getOptionCount());
+                    for (int i = 0; i < key.getOptionCount(); i++) {
+                        out.writeInt(key.getTimeMinutes(i));
+                        out.writeLong(key.getDirectCost(i));
+                    }
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            logger.warn("계산 캐시 스냅샷 저장 실패 - 경로: {}, 원인: {}", path, ex.getMessage());
+            return -1;
+        }
+
+        logger.debug("계산 캐시 스냅샷 저장 - 2안: {}개, 다안: {}개", keys.size(), multiKeys.size());
+        return keys.size() + multiKeys.size();
+    }
+
+    /**
+     * 스냅샷 파일의 키로 결과를 다시 계산해 캐시를 채웁니다.
+     * 파일이 없거나 형식이 맞지 않으면 빈 캐시로 시작합니다.
+     *
+     * @return 복원한 키 개수
+     */
+    public synchronized int restore() {
+        if (!Files.isRegularFile(path)) {
+            logger.info("계산 캐시 스냅샷 없음 - 빈 캐시로 시작: {}", path);
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        List<CalculationRequest> requests = new ArrayList<>();
+        List<MultiComparisonRequest> multiRequests = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                logger.warn("계산 캐시 스냅샷 형식 불일치 - 무시: {}", path);
+                return 0;
+            }
+
+            int count = readCount(in);
+            for (int i = 0; i < count; i++) {
+                CalculationRequest request = new CalculationRequest();
+                request.setHourlyWage(in.readLong());
+                request.setOptionA(new ComparisonOption(in.readInt(), in.readLong()));
+                request.setOptionB(new ComparisonOption(in.readInt(), in.readLong()));
+                if (i < maxEntries) {
+                    requests.add(request);
+                }
+            }
+
+            int multiCount = readCount(in);
+            for (int i = 0; i < multiCount; i++) {
+                MultiComparisonRequest request = new MultiComparisonRequest();
+                request.setHourlyWage(in.readLong());
+                int optionCount = in.readUnsignedByte();
+                List<ComparisonOption> options = new ArrayList<>(optionCount);
+                for (int j = 0; j < optionCount; j++) {
+                    options.add(new ComparisonOption(in.readInt(), in.readLong()));
+                }
+                request.setOptions(options);
+                if (i < maxEntries) {
+                    multiRequests.add(request);
+                }
+            }
+        } catch (IOException ex) {
+            logger.warn("계산 캐시 스냅샷 읽기 실패 - 빈 캐시로 시작: {}, 원인: {}", path, ex.getMessage());
+            return 0;
+        }
+
+        // 저장 순서(자주 쓰이는 순)의 역순으로 넣어, 캐시 크기가 줄었을 때 자주 쓰이는 항목이 나중에 들어가 남도록 함
+        int restored = 0;
+        for (int i = requests.size() - 1; i >= 0; i--) {
+            CalculationRequest request = requests.get(i);
+            restored += recompute(requestValidator.validate(request), () -> opportunityCostService.warmUp(request));
+        }
+        for (int i = multiRequests.size() - 1; i >= 0; i--) {
+            MultiComparisonRequest request = multiRequests.get(i);
+            restored += recompute(requestValidator.validate(request), () -> opportunityCostService.warmUpMulti(request));
+        }
+
+        logger.info("계산 캐시 예열 완료 - {}개 항목, {}ms", restored, (System.nanoTime() - start) / 1_000_000);
+        return restored;
+    }
+
+    /**
+     * 항목 수를 읽습니다. 설정이 줄어 max-entries보다 많이 저장된 경우 앞(자주 쓰이는)쪽만 사용합니다.
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("항목 수가 올바르지 않습니다: " + count);
+        }
+        return count;
+    }
+
+    /**
+     * 현재 검증 규칙이나 계산 범위를 벗어나는 항목은 건너뜁니다.
+     *
+     * @param validation 현재 검증 규칙으로 다시 검증한 결과
+     */
+    private static int recompute(ValidationResult validation, Runnable calculation) {
+        if (!validation.isValid()) {
+            logger.debug("캐시 예열 항목 건너뜀 (검증 오류): {}", validation.getErrors());
+            return 0;
+        }
+        try {
+            calculation.run();
+            return 1;
+        } catch (RuntimeException ex) {
+            logger.debug("캐시 예열 항목 건너뜀: {}", ex.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.CalculationRequest;
+
+/**
+ * 2안 비교 계산 결과의 캐시 키
+ *
+ * 문자열 포맷 없이 원시 타입 필드만 보관하며, 해시는 생성 시 한 번만 계산합니다.
+ * 요청당 한 번 만들어 조회와 저장에 함께 사용합니다.
+ */
+public final class CalculationKey {
+
+    private final long hourlyWage;
+    private final int timeMinutesA;
+    private final long directCostA;
+    private final int timeMinutesB;
+    private final long directCostB;
+    private final int hash;
+
+    public CalculationKey(long hourlyWage, int timeMinutesA, long directCostA,
+                          int timeMinutesB, long directCostB) {
+        this.hourlyWage = hourlyWage;
+        this.timeMinutesA = timeMinutesA;
+        this.directCostA = directCostA;
+        this.timeMinutesB = timeMinutesB;
+        this.directCostB = directCostB;
+
+        int h = Long.hashCode(hourlyWage);
+        h = 31 * h + timeMinutesA;
+        h = 31 * h + Long.hashCode(directCostA);
+        h = 31 * h + timeMinutesB;
+        h = 31 * h + Long.hashCode(directCostB);
+        this.hash = h;
+    }
+
+    /**
+     * 검증을 통과한 요청으로부터 캐시 키를 생성합니다.
+     */
+    public static CalculationKey of(CalculationRequest request) {
+        return new CalculationKey(
+            request.getHourlyWage(),
+            request.getOptionA().getTimeMinutes(),
+            request.getOptionA().getDirectCost(),
+            request.getOptionB().getTimeMinutes(),
+            request.getOptionB().getDirectCost()
+        );
+    }
+
+    public long getHourlyWage() {
+        return hourlyWage;
+    }
+
+    public int getTimeMinutesA() {
+        return timeMinutesA;
+    }
+
+    public long getDirectCostA() {
+        return directCostA;
+    }
+
+    public int getTimeMinutesB() {
+        return timeMinutesB;
+    }
+
+    public long getDirectCostB() {
+        return directCostB;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CalculationKey other)) {
+            return false;
+        }
+        return hash == other.hash
+            && hourlyWage == other.hourlyWage
+            && timeMinutesA == other.timeMinutesA
+            && directCostA == other.directCostA
+            && timeMinutesB == other.timeMinutesB
+            && directCostB == other.directCostB;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return hourlyWage + "-" + timeMinutesA + "-" + directCostA + "-" + timeMinutesB + "-" + directCostB;
+    }
+}
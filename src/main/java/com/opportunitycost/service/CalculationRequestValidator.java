@@ -0,0 +1,258 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.CalculationRequest;
+import com.opportunitycost.dto.MultiComparisonRequest;
+import com.opportunitycost.model.ComparisonOption;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계산 요청 전용 검증기 (Bean Validation 대체)
+ *
+ * CalculationRequest, MultiComparisonRequest와 중첩된 ComparisonOption의 검증 애노테이션과 같은 규칙을
+ * 리플렉션과 ConstraintViolation 생성 없이 직접 검사합니다.
+ * 필드 경로(예: optionA.timeMinutes, options[2].directCost)와 메시지가 Hibernate Validator 결과와 같으므로
+ * 검증 오류 응답(필드 → 메시지)은 그대로 유지됩니다.
+ *
+ * 결과는 예외 대신 {@link ValidationResult}로 반환하며, 가장 흔한 오류 하나짜리 결과는 미리 만들어 재사용합니다.
+ *
+ * DTO의 검증 애노테이션을 바꾸면 이 클래스도 함께 바꿔야 하며,
+ * 두 규칙이 어긋나지 않는지는 CalculationRequestValidatorTest가 Hibernate Validator와 비교해 확인합니다.
+ */
+@Component
+public class CalculationRequestValidator {
+
+    /**
+     * 쿼리 파라미터를 숫자로 변환하지 못한 필드의 메시지 (GET)
+     */
+    public static final String BINDING_FAILURE_MESSAGE = "숫자 형식이 올바르지 않습니다.";
+
+    // 검증 범위 (DTO 애노테이션과 동일)
+    static final long MIN_HOURLY_WAGE = 1L;
+    static final long MAX_HOURLY_WAGE = 100_000_000L;
+    static final int MAX_TIME_MINUTES = 10_080;
+    static final long MAX_DIRECT_COST = 100_000_000L;
+    static final int MIN_OPTIONS = 3;
+    static final int MAX_OPTIONS = 5;
+
+    // 검증 메시지 (DTO 애노테이션과 동일)
+    private static final String HOURLY_WAGE_REQUIRED = "시급은 필수 입력 항목입니다.";
+    private static final String HOURLY_WAGE_MIN = "시급은 1원 이상이어야 합니다.";
+    private static final String HOURLY_WAGE_MAX = "시급은 1억원 이하로 입력해주세요.";
+    private static final String OPTION_A_REQUIRED = "선택지 A는 필수 입력 항목입니다.";
+    private static final String OPTION_B_REQUIRED = "선택지 B는 필수 입력 항목입니다.";
+    private static final String OPTIONS_REQUIRED = "선택지는 필수 입력 항목입니다.";
+    private static final String OPTIONS_SIZE = "선택지는 3개 이상 5개 이하여야 합니다.";
+    private static final String OPTION_ITEM_REQUIRED = "선택지 항목은 비어 있을 수 없습니다.";
+    private static final String TIME_MINUTES_REQUIRED = "소요 시간은 필수 입력 항목입니다.";
+    private static final String TIME_MINUTES_MIN = "소요 시간은 0분 이상이어야 합니다.";
+    private static final String TIME_MINUTES_MAX = "소요 시간은 10,080분(7일) 이하로 입력해주세요.";
+    private static final String DIRECT_COST_REQUIRED = "직접 비용은 필수 입력 항목입니다.";
+    private static final String DIRECT_COST_MIN = "직접 비용은 0원 이상이어야 합니다.";
+    private static final String DIRECT_COST_MAX = "직접 비용은 1억원 이하로 입력해주세요.";
+
+    // 선택지 필드 경로 (검증 중 문자열을 만들지 않도록 미리 생성, 개수 제한 밖의 위치만 오류 시 생성)
+    private static final String[] OPTION_A_PATHS = {"optionA.timeMinutes", "optionA.directCost"};
+    private static final String[] OPTION_B_PATHS = {"optionB.timeMinutes", "optionB.directCost"};
+    private static final String[][] OPTIONS_PATHS = new String[MAX_OPTIONS][];
+    private static final String[] OPTION_ITEM_PATHS = new String[MAX_OPTIONS];
+
+    // 오류가 하나인 결과 (필드 → 메시지 → 결과)
+    private static final Map<String, Map<String, ValidationResult>> SINGLE_ERRORS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < MAX_OPTIONS; i++) {
+            OPTIONS_PATHS[i] = new String[] {
+                "options[" + i + "].timeMinutes", "options[" + i + "].directCost"};
+            OPTION_ITEM_PATHS[i] = "options[" + i + "]";
+        }
+
+        precompute("hourlyWage", HOURLY_WAGE_REQUIRED, HOURLY_WAGE_MIN, HOURLY_WAGE_MAX);
+        precompute("optionA", OPTION_A_REQUIRED);
+        precompute("optionB", OPTION_B_REQUIRED);
+        precompute("options", OPTIONS_REQUIRED, OPTIONS_SIZE);
+        precomputeOption(OPTION_A_PATHS);
+        precomputeOption(OPTION_B_PATHS);
+        for (String[] paths : OPTIONS_PATHS) {
+            precomputeOption(paths);
+        }
+        for (String path : OPTION_ITEM_PATHS) {
+            precompute(path, OPTION_ITEM_REQUIRED);
+        }
+    }
+
+    private static void precompute(String field, String... messages) {
+        Map<String, ValidationResult> results = SINGLE_ERRORS.computeIfAbsent(field, key -> new HashMap<>());
+        for (String message : messages) {
+            results.put(message, ValidationResult.single(field, message));
+        }
+    }
+
+    private static void precomputeOption(String[] paths) {
+        precompute(paths[0], TIME_MINUTES_REQUIRED, TIME_MINUTES_MIN, TIME_MINUTES_MAX);
+        precompute(paths[1], DIRECT_COST_REQUIRED, DIRECT_COST_MIN, DIRECT_COST_MAX);
+    }
+
+    /**
+     * 검증 오류 수집 (필드 경로, 메시지)
+     */
+    @FunctionalInterface
+    private interface ErrorSink {
+        void reject(String field, String message);
+    }
+
+    /**
+     * 첫 오류는 맵 없이 보관하고, 두 번째 오류부터 맵을 만듭니다.
+     */
+    private static final class Collector implements ErrorSink {
+        private String field;
+        private String message;
+        private Map<String, String> errors;
+
+        @Override
+        public void reject(String field, String message) {
+            if (this.field == null) {
+                this.field = field;
+                this.message = message;
+                return;
+            }
+            if (errors == null) {
+                errors = new HashMap<>();
+                errors.put(this.field, this.message);
+            }
+            errors.put(field, message);
+        }
+
+        ValidationResult result() {
+            if (field == null) {
+                return ValidationResult.valid();
+            }
+            if (errors != null) {
+                return ValidationResult.of(errors);
+            }
+            Map<String, ValidationResult> results = SINGLE_ERRORS.get(field);
+            ValidationResult precomputed = results != null ? results.get(message) : null;
+            return precomputed != null ? precomputed : ValidationResult.single(field, message);
+        }
+    }
+
+    /**
+     * 2안 비교 요청을 검증합니다.
+     */
+    public ValidationResult validate(CalculationRequest request) {
+        Collector collector = new Collector();
+        validateCalculation(request, collector);
+        return collector.result();
+    }
+
+    /**
+     * 쿼리 파라미터로 바인딩한 2안 비교 요청을 검증합니다 (GET).
+     * 숫자로 변환하지 못한 필드는 변환 오류 메시지로 응답하고, 그 필드의 다른 검증은 건너뜁니다.
+     *
+     * @param bindingErrors 바인딩 결과 (변환 실패 포함)
+     */
+    public ValidationResult validate(CalculationRequest request, Errors bindingErrors) {
+        if (!bindingErrors.hasErrors()) {
+            return validate(request);
+        }
+        Map<String, String> errors = new HashMap<>();
+        for (FieldError error : bindingErrors.getFieldErrors()) {
+            errors.put(error.getField(), error.isBindingFailure() ? BINDING_FAILURE_MESSAGE : error.getDefaultMessage());
+        }
+        validateCalculation(request, errors::putIfAbsent);
+        return ValidationResult.of(errors);
+    }
+
+    /**
+     * 다안 비교 요청을 검증합니다.
+     */
+    public ValidationResult validate(MultiComparisonRequest request) {
+        Collector collector = new Collector();
+        validateMulti(request, collector);
+        return collector.result();
+    }
+
+    private static void validateCalculation(CalculationRequest request, ErrorSink sink) {
+        Long hourlyWage = request.getHourlyWage();
+        if (hourlyWage == null) {
+            sink.reject("hourlyWage", HOURLY_WAGE_REQUIRED);
+        } else if (hourlyWage < MIN_HOURLY_WAGE) {
+            sink.reject("hourlyWage", HOURLY_WAGE_MIN);
+        } else if (hourlyWage > MAX_HOURLY_WAGE) {
+            sink.reject("hourlyWage", HOURLY_WAGE_MAX);
+        }
+
+        if (request.getOptionA() == null) {
+            sink.reject("optionA", OPTION_A_REQUIRED);
+        } else {
+            validateOption(request.getOptionA(), OPTION_A_PATHS, -1, sink);
+        }
+        if (request.getOptionB() == null) {
+            sink.reject("optionB", OPTION_B_REQUIRED);
+        } else {
+            validateOption(request.getOptionB(), OPTION_B_PATHS, -1, sink);
+        }
+    }
+
+    private static void validateMulti(MultiComparisonRequest request, ErrorSink sink) {
+        Long hourlyWage = request.getHourlyWage();
+        if (hourlyWage == null) {
+            sink.reject("hourlyWage", HOURLY_WAGE_REQUIRED);
+        } else if (hourlyWage < MIN_HOURLY_WAGE) {
+            sink.reject("hourlyWage", HOURLY_WAGE_MIN);
+        }
+
+        List<ComparisonOption> options = request.getOptions();
+        if (options == null) {
+            sink.reject("options", OPTIONS_REQUIRED);
+            return;
+        }
+        if (options.size() < MIN_OPTIONS || options.size() > MAX_OPTIONS) {
+            sink.reject("options", OPTIONS_SIZE);
+        }
+        // 개수와 관계없이 각 선택지를 검증
+        for (int i = 0; i < options.size(); i++) {
+            ComparisonOption option = options.get(i);
+            if (option == null) {
+                sink.reject(i < MAX_OPTIONS ? OPTION_ITEM_PATHS[i] : "options[" + i + "]", OPTION_ITEM_REQUIRED);
+            } else {
+                validateOption(option, i < MAX_OPTIONS ? OPTIONS_PATHS[i] : null, i, sink);
+            }
+        }
+    }
+
+    /**
+     * 선택지를 검증합니다.
+     *
+     * @param paths 미리 만든 필드 경로 (timeMinutes, directCost), 없으면 오류 시 목록 위치로 생성
+     * @param index 목록 안의 위치 (목록이 아니면 -1)
+     */
+    private static void validateOption(ComparisonOption option, String[] paths, int index, ErrorSink sink) {
+        Integer timeMinutes = option.getTimeMinutes();
+        if (timeMinutes == null) {
+            sink.reject(path(paths, 0, index, "timeMinutes"), TIME_MINUTES_REQUIRED);
+        } else if (timeMinutes < 0) {
+            sink.reject(path(paths, 0, index, "timeMinutes"), TIME_MINUTES_MIN);
+        } else if (timeMinutes > MAX_TIME_MINUTES) {
+            sink.reject(path(paths, 0, index, "timeMinutes"), TIME_MINUTES_MAX);
+        }
+
+        Long directCost = option.getDirectCost();
+        if (directCost == null) {
+            sink.reject(path(paths, 1, index, "directCost"), DIRECT_COST_REQUIRED);
+        } else if (directCost < 0) {
+            sink.reject(path(paths, 1, index, "directCost"), DIRECT_COST_MIN);
+        } else if (directCost > MAX_DIRECT_COST) {
+            sink.reject(path(paths, 1, index, "directCost"), DIRECT_COST_MAX);
+        }
+    }
+
+    private static String path(String[] paths, int field, int index, String name) {
+        return paths != null ? paths[field] : "options[" + index + "]." + name;
+    }
+}
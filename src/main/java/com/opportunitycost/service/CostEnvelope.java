@@ -0,0 +1,153 @@
+package com.opportunitycost.service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * 선택지 총 비용 직선들의 하한 포락선 (시급에 따른 최저 비용 선택지)
+ *
+ * 시급 W에 대한 각 선택지의 총 비용은 TC = C + W/60 × T 인 직선이므로,
+ * 60을 곱한 60·TC = 60·C + T·W (정수 계수)로 다룹니다.
+ * 시급이 커질수록 소요 시간(기울기)이 짧은 선택지가 유리해지며,
+ * 포락선을 이루는 선택지와 선택지가 바뀌는 손익분기 시급을 미리 계산해 둡니다.
+ * 교점 비교는 정수 교차 곱셈으로 하므로 부동소수점 오차가 없습니다.
+ *
+ * 연속 모델(시간 비용 내림 없음) 기준이며, 손익분기 시급에서는 두 선택지의 비용이 같습니다.
+ */
+final class CostEnvelope {
+
+    private static final long MINUTES_PER_HOUR = 60L;
+
+    // 포락선을 이루는 선택지 위치 (시급 오름차순으로 최저 비용이 되는 순서)
+    private final int[] options;
+    // options[k]에서 options[k + 1]로 바뀌는 손익분기 시급 = breakEvenNumerators[k] / breakEvenDenominators[k]
+    private final long[] breakEvenNumerators;
+    private final long[] breakEvenDenominators;
+    // options[k + 1]이 options[k]보다 비싸지 않게 되는 첫 정수 시급 (손익분기 시급 올림)
+    private final long[] thresholds;
+
+    private CostEnvelope(int[] options, long[] breakEvenNumerators, long[] breakEvenDenominators) {
+        this.options = options;
+        this.breakEvenNumerators = breakEvenNumerators;
+        this.breakEvenDenominators = breakEvenDenominators;
+        this.thresholds = new long[breakEvenNumerators.length];
+        for (int k = 0; k < thresholds.length; k++) {
+            thresholds[k] = -Math.floorDiv(-breakEvenNumerators[k], breakEvenDenominators[k]);
+        }
+    }
+
+    /**
+     * 선택지 목록으로부터 포락선을 계산합니다 (O(N log N)).
+     *
+     * @param timeMinutes 입력 순서대로의 소요 시간 (분)
+     * @param directCosts 입력 순서대로의 직접 비용 (원)
+     * @return 하한 포락선
+     */
+    static CostEnvelope of(int[] timeMinutes, long[] directCosts) {
+        int n = timeMinutes.length;
+        long[] intercepts = new long[n];
+        for (int i = 0; i < n; i++) {
+            intercepts[i] = Math.multiplyExact(directCosts[i], MINUTES_PER_HOUR);
+        }
+
+        // 기울기 내림차순, 같은 기울기는 절편(직접 비용)이 작은 것, 그다음 입력 순서
+        Integer[] order = IntStream.range(0, n).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.<Integer>comparingInt(i -> -timeMinutes[i])
+            .thenComparingLong(i -> intercepts[i])
+            .thenComparingInt(i -> i));
+
+        int[] hull = new int[n];
+        int size = 0;
+        for (int line : order) {
+            if (size > 0 && timeMinutes[hull[size - 1]] == timeMinutes[line]) {
+                // 같은 기울기에서는 앞선(더 싼) 선택지만 의미가 있음
+                continue;
+            }
+            while (size >= 2 && isRedundant(hull[size - 2], hull[size - 1], line, timeMinutes, intercepts)) {
+                size--;
+            }
+            hull[size++] = line;
+        }
+
+        long[] numerators = new long[size - 1];
+        long[] denominators = new long[size - 1];
+        for (int k = 0; k + 1 < size; k++) {
+            int a = hull[k];
+            int b = hull[k + 1];
+            numerators[k] = intercepts[b] - intercepts[a];
+            denominators[k] = (long) timeMinutes[a] - timeMinutes[b];
+        }
+        return new CostEnvelope(Arrays.copyOf(hull, size), numerators, denominators);
+    }
+
+    /**
+     * 직선 a, c 사이에서 직선 b가 최저가 되는 구간이 없는지 확인합니다.
+     * 기울기는 a > b > c 이며, a·c 교점이 a·b 교점보다 앞서거나 같으면 b는 필요 없습니다.
+     */
+    private static boolean isRedundant(int a, int b, int c, int[] slopes, long[] intercepts) {
+        long acNumerator = intercepts[c] - intercepts[a];
+        long acDenominator = (long) slopes[a] - slopes[c];
+        long abNumerator = intercepts[b] - intercepts[a];
+        long abDenominator = (long) slopes[a] - slopes[b];
+        return Math.multiplyExact(acNumerator, abDenominator) <= Math.multiplyExact(abNumerator, acDenominator);
+    }
+
+    /**
+     * 주어진 시급에서 총 비용이 가장 낮은 선택지를 찾습니다 (O(log N)).
+     * 손익분기 시급에서 비용이 같으면 소요 시간이 짧은 선택지를 반환합니다.
+     *
+     * @param hourlyWage 시급 (원/시간)
+     * @return 선택지 위치 (0부터 시작, 입력 순서)
+     */
+    int cheapestAt(long hourlyWage) {
+        return options[segmentAt(hourlyWage)];
+    }
+
+    /**
+     * 주어진 시급이 속한 포락선 구간 번호를 반환합니다.
+     */
+    int segmentAt(long hourlyWage) {
+        // thresholds는 오름차순, hourlyWage 이하인 threshold 개수가 구간 번호
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid] <= hourlyWage) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 포락선 구간 수 (= 시급에 따라 최저 비용이 될 수 있는 선택지 수)
+     */
+    int segmentCount() {
+        return options.length;
+    }
+
+    /**
+     * @param segment 구간 번호
+     * @return 해당 구간에서 최저 비용인 선택지 위치
+     */
+    int optionOf(int segment) {
+        return options[segment];
+    }
+
+    /**
+     * 구간 segment에서 segment + 1로 바뀌는 첫 정수 시급
+     */
+    long thresholdAfter(int segment) {
+        return thresholds[segment];
+    }
+
+    /**
+     * 구간 segment에서 segment + 1로 바뀌는 손익분기 시급 (원/시간, 정확한 값은 분자/분모)
+     */
+    double breakEvenAfter(int segment) {
+        return (double) breakEvenNumerators[segment] / breakEvenDenominators[segment];
+    }
+}
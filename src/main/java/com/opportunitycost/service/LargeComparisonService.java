@@ -0,0 +1,230 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.*;
+import com.opportunitycost.exception.CalculationRangeException;
+import com.opportunitycost.model.ComparisonOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 대량 다안 비교 서비스 (최대 100,000개 선택지)
+ *
+ * 선택지별 총 비용은 원시 타입 배열에 구간별로 나누어 병렬 계산하며,
+ * 같은 순회에서 최소/최대 비용과 최소 비용 선택지 개수를 함께 집계합니다.
+ * 순위는 전체 정렬 없이 요청한 페이지까지만 힙으로 선택합니다.
+ */
+@Service
+public class LargeComparisonService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LargeComparisonService.class);
+
+    // 이 크기 단위로 나누어 병렬 계산 (이하이면 요청 스레드에서 바로 처리)
+    static final int CHUNK_SIZE = 4_096;
+
+    // 한 페이지에 반환하는 최대 선택지 수
+    static final int MAX_PAGE_SIZE = 1_000;
+
+    private final OpportunityCostService opportunityCostService;
+    private final Executor executor;
+
+    /**
+     * @param executor 구간별 병렬 계산용 실행기
+     */
+    public LargeComparisonService(OpportunityCostService opportunityCostService,
+                                  @Qualifier("applicationTaskExecutor") Executor executor) {
+        this.opportunityCostService = opportunityCostService;
+        this.executor = executor;
+    }
+
+    /**
+     * 대량 다안 비교를 수행합니다.
+     *
+     * @param request 대량 다안 비교 요청 정보
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (1~1,000)
+     * @return 요청한 페이지의 순위와 전체 통계
+     */
+    public LargeComparisonResponse compare(LargeComparisonRequest request, int page, int size) {
+        return compare(request, page, size, RankingFilter.NONE);
+    }
+
+    /**
+     * 순위 조건(topK, 총 비용 상한, 최저 비용과의 차액 상한)을 적용하여 대량 다안 비교를 수행합니다.
+     * 페이지는 조건을 만족하는 순위 안에서 나뉘며, 최소/최대 비용과 추천 선택지는 전체 선택지 기준입니다.
+     *
+     * @param request 대량 다안 비교 요청 정보
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (1~1,000)
+     * @param filter 순위 조건
+     * @return 요청한 페이지의 순위와 전체 통계
+     */
+    public LargeComparisonResponse compare(LargeComparisonRequest request, int page, int size, RankingFilter filter) {
+        List<ComparisonOption> options = request.getOptions();
+        int[] timeMinutes = new int[options.size()];
+        long[] directCosts = new long[options.size()];
+        for (int i = 0; i < timeMinutes.length; i++) {
+            ComparisonOption option = options.get(i);
+            timeMinutes[i] = option.getTimeMinutes();
+            directCosts[i] = option.getDirectCost();
+        }
+        return compare(request.getHourlyWage(), timeMinutes, directCosts, page, size, filter);
+    }
+
+    /**
+     * 원시 타입 배열로 주어진 선택지에 대해 대량 다안 비교를 수행합니다 (저장된 선택지 묶음 등).
+     *
+     * @param hourlyWage 시급 (원/시간)
+     * @param timeMinutes 입력 순서대로의 소요 시간 (분)
+     * @param directCosts 입력 순서대로의 직접 비용 (원)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (1~1,000)
+     * @param filter 순위 조건
+     * @return 요청한 페이지의 순위와 전체 통계
+     */
+    public LargeComparisonResponse compare(long hourlyWage, int[] timeMinutes, long[] directCosts,
+                                           int page, int size, RankingFilter filter) {
+        if (page < 0) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상이어야 합니다.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        long[] totals = new long[timeMinutes.length];
+        byte[] remainders = new byte[timeMinutes.length];
+        RangeStats stats = calculateTotals(timeMinutes, directCosts, hourlyWage, totals, remainders);
+
+        // 상한 조건은 최저 비용이 정해진 뒤 하나의 총 비용 상한으로 합쳐 적용
+        long costCeiling = filter.costCeiling(stats.min);
+        int matched = filter.limit(costCeiling == Long.MAX_VALUE
+            ? totals.length : OptionRanking.countAtMost(totals, costCeiling));
+
+        // 요청한 페이지의 끝까지만 순위 선택
+        List<OptionResult> results = new ArrayList<>();
+        long from = (long) page * size;
+        if (from < matched) {
+            int[] ranked = OptionRanking.topK(new OptionRanking.Keys(totals, remainders, timeMinutes), (int) Math.min(matched, from + size), costCeiling);
+            for (int r = (int) from; r < ranked.length; r++) {
+                results.add(toResult(ranked[r], directCosts[ranked[r]], totals[ranked[r]]));
+            }
+        }
+
+        Integer recommendedOption = stats.minCount == 1 ? stats.minIndex + 1 : null;
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("대량 다안 비교 완료 - 시급: {}, 선택지 개수: {}, 조건 만족: {}, 추천 선택지: {}, 최소 비용: {}원, 최대 비용: {}원",
+                hourlyWage, totals.length, matched, recommendedOption, stats.min, stats.max);
+        }
+
+        return new LargeComparisonResponse(results, totals.length, matched, page, size, recommendedOption,
+            stats.minCount, stats.min, stats.max, stats.max - stats.min,
+            opportunityCostService.generateFormula(hourlyWage));
+    }
+
+    /**
+     * 선택지별 총 비용을 계산하여 totals에, 시간 비용 내림으로 버려진 나머지를 remainders에 채우고
+     * 전체 통계를 반환합니다.
+     */
+    private RangeStats calculateTotals(int[] timeMinutes, long[] directCosts, long hourlyWage,
+                                       long[] totals, byte[] remainders) {
+        if (totals.length <= CHUNK_SIZE) {
+            return calculateRange(timeMinutes, directCosts, hourlyWage, totals, remainders, 0, totals.length);
+        }
+
+        int chunkCount = (totals.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<CompletableFuture<RangeStats>> chunks = new ArrayList<>(chunkCount);
+        for (int c = 0; c < chunkCount; c++) {
+            int from = c * CHUNK_SIZE;
+            int to = Math.min(from + CHUNK_SIZE, totals.length);
+            chunks.add(CompletableFuture.supplyAsync(
+                () -> calculateRange(timeMinutes, directCosts, hourlyWage, totals, remainders, from, to), executor));
+        }
+
+        // 구간 순서대로 합쳐 동일 최소 비용의 첫 선택지가 입력 순서상 가장 앞이 되도록 함
+        RangeStats stats = null;
+        for (CompletableFuture<RangeStats> chunk : chunks) {
+            RangeStats chunkStats;
+            try {
+                chunkStats = chunk.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+            stats = stats == null ? chunkStats : stats.merge(chunkStats);
+        }
+        return stats;
+    }
+
+    private RangeStats calculateRange(int[] timeMinutes, long[] directCosts, long hourlyWage,
+                                      long[] totals, byte[] remainders, int from, int to) {
+        RangeStats stats = new RangeStats();
+        for (int i = from; i < to; i++) {
+            long total = totalCost(directCosts[i], timeMinutes[i], hourlyWage);
+            totals[i] = total;
+            remainders[i] = (byte) OpportunityCostService.calculateTimeCostRemainder(hourlyWage, timeMinutes[i]);
+            stats.accept(i, total);
+        }
+        return stats;
+    }
+
+    private static long totalCost(long directCost, int timeMinutes, long hourlyWage) {
+        try {
+            return Math.addExact(directCost, OpportunityCostService.calculateTimeCost(hourlyWage, timeMinutes));
+        } catch (ArithmeticException ex) {
+            throw new CalculationRangeException();
+        }
+    }
+
+    private static OptionResult toResult(int index, long directCost, long totalCost) {
+        return new OptionResult(index + 1, OpportunityCostService.optionName(index),
+            new CostBreakdown(directCost, totalCost - directCost, totalCost));
+    }
+
+    /**
+     * 구간별 최소/최대 비용과 최소 비용 선택지 개수
+     */
+    private static final class RangeStats {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        int minCount;
+        int minIndex = -1;
+
+        void accept(int index, long total) {
+            if (total < min) {
+                min = total;
+                minCount = 1;
+                minIndex = index;
+            } else if (total == min) {
+                minCount++;
+            }
+            if (total > max) {
+                max = total;
+            }
+        }
+
+        /**
+         * 뒤 구간의 통계를 합칩니다.
+         */
+        RangeStats merge(RangeStats next) {
+            if (next.min < min) {
+                min = next.min;
+                minCount = next.minCount;
+                minIndex = next.minIndex;
+            } else if (next.min == min) {
+                minCount += next.minCount;
+            }
+            max = Math.max(max, next.max);
+            return this;
+        }
+    }
+}
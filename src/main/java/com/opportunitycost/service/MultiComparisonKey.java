@@ -0,0 +1,86 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.MultiComparisonRequest;
+import com.opportunitycost.model.ComparisonOption;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 다안 비교 계산 결과의 캐시 키
+ *
+ * 시급과 선택지 목록(입력 순서 유지)을 원시 타입 배열로 보관합니다.
+ * 선택지 번호가 입력 순서에 따라 매겨지므로 순서가 다르면 다른 키입니다.
+ */
+public final class MultiComparisonKey {
+
+    private final long hourlyWage;
+    // [소요 시간0, 직접 비용0, 소요 시간1, 직접 비용1, ...]
+    private final long[] options;
+    private final int hash;
+
+    public MultiComparisonKey(long hourlyWage, long[] options) {
+        this.hourlyWage = hourlyWage;
+        this.options = options;
+        this.hash = 31 * Long.hashCode(hourlyWage) + Arrays.hashCode(options);
+    }
+
+    /**
+     * 검증을 통과한 요청으로부터 캐시 키를 생성합니다.
+     */
+    public static MultiComparisonKey of(MultiComparisonRequest request) {
+        List<ComparisonOption> optionList = request.getOptions();
+        long[] options = new long[optionList.size() * 2];
+        for (int i = 0; i < optionList.size(); i++) {
+            ComparisonOption option = optionList.get(i);
+            options[i * 2] = option.getTimeMinutes();
+            options[i * 2 + 1] = option.getDirectCost();
+        }
+        return new MultiComparisonKey(request.getHourlyWage(), options);
+    }
+
+    public long getHourlyWage() {
+        return hourlyWage;
+    }
+
+    public int getOptionCount() {
+        return options.length / 2;
+    }
+
+    /**
+     * @param index 선택지 위치 (0부터 시작, 입력 순서)
+     */
+    public int getTimeMinutes(int index) {
+        return (int) options[index * 2];
+    }
+
+    /**
+     * @param index 선택지 위치 (0부터 시작, 입력 순서)
+     */
+    public long getDirectCost(int index) {
+        return options[index * 2 + 1];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MultiComparisonKey other)) {
+            return false;
+        }
+        return hash == other.hash
+            && hourlyWage == other.hourlyWage
+            && Arrays.equals(options, other.options);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return hourlyWage + "-" + Arrays.toString(options);
+    }
+}
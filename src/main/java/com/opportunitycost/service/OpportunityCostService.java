@@ -1,15 +1,18 @@
 package com.opportunitycost.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.opportunitycost.dto.*;
-import com.opportunitycost.model.ComparisonOption;
+import com.opportunitycost.exception.CalculationRangeException;
+import com.opportunitycost.metrics.CalculationMetrics;
+import com.opportunitycost.model.OptionCost;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 기회비용 계산 서비스
@@ -30,6 +33,19 @@ public class OpportunityCostService {
     // 큰 값 입력 경고 기준 (시급 1,000,000원 이상 또는 총 비용 10,000,000원 이상)
     private static final long WAGE_WARNING_THRESHOLD = 1_000_000L;
     private static final long TOTAL_COST_WARNING_THRESHOLD = 10_000_000L;
+    
+    private static final long MINUTES_PER_HOUR = 60L;
+    
+    // 계산식 설명은 시급에만 의존하므로 시급별로 한 번만 생성하여 재사용
+    private static final int FORMULA_CACHE_SIZE = 1_000;
+    private final Cache<Long, String> formulaCache = Caffeine.newBuilder()
+        .maximumSize(FORMULA_CACHE_SIZE)
+        .executor(Runnable::run)
+        .build();
+
+    // 캐시 미스 시 같은 입력의 동시 요청은 한 번만 계산
+    private final SingleFlight<CalculationKey, CalculationResponse> calculations = new SingleFlight<>("calculate");
+    private final SingleFlight<MultiComparisonKey, MultiComparisonResponse> multiCalculations = new SingleFlight<>("multi");
 
     public OpportunityCostService(CalculationCacheService cacheService) {
         this.cacheService = cacheService;
@@ -42,60 +58,100 @@ public class OpportunityCostService {
      * @return 계산 결과
      */
     public CalculationResponse calculate(CalculationRequest request) {
-        // 캐시 확인
-        CalculationResponse cached = cacheService.getCachedResult(request);
+        // 캐시 확인 (키는 한 번만 생성하여 조회/저장에 재사용)
+        CalculationKey cacheKey = CalculationKey.of(request);
+        CalculationResponse cached = cacheService.getCachedResult(cacheKey);
         if (cached != null) {
-            logger.info("캐시된 결과 반환");
+            logger.debug("캐시된 결과 반환 - {}", cacheKey);
             return cached;
         }
         
-        logger.info("기회비용 계산 요청 - 시급: {}, 선택지A: {}원/{}분, 선택지B: {}원/{}분",
-            request.getHourlyWage(),
-            request.getOptionA().getDirectCost(), request.getOptionA().getTimeMinutes(),
-            request.getOptionB().getDirectCost(), request.getOptionB().getTimeMinutes());
+        return calculations.execute(cacheKey, () -> calculateAndCache(cacheKey));
+    }
+
+    /**
+     * 기회비용을 계산하여 두 선택지를 비교합니다 (리액티브 모드용, 스레드를 막지 않음).
+     * 같은 입력의 계산이 진행 중이면 기다리지 않고, 그 계산이 끝날 때 완료되는 결과를 반환합니다.
+     * 
+     * @param request 계산 요청 정보
+     * @return 계산 결과
+     */
+    public CompletableFuture<CalculationResponse> calculateAsync(CalculationRequest request) {
+        CalculationKey cacheKey = CalculationKey.of(request);
+        CalculationResponse cached = cacheService.getCachedResult(cacheKey);
+        if (cached != null) {
+            logger.debug("캐시된 결과 반환 - {}", cacheKey);
+            return CompletableFuture.completedFuture(cached);
+        }
+        
+        return calculations.executeAsync(cacheKey, () -> calculateAndCache(cacheKey));
+    }
+    
+    /**
+     * 캐시 예열용 2안 비교 계산 (캐시 히트/미스 통계와 동시 계산 병합을 거치지 않고 결과를 캐시에 저장)
+     * 
+     * @param request 검증을 통과한 계산 요청 정보
+     */
+    void warmUp(CalculationRequest request) {
+        calculateAndCache(CalculationKey.of(request));
+    }
+    
+    /**
+     * 2안 비교를 계산하여 캐시에 저장합니다.
+     * 앞서 같은 입력의 계산이 막 끝난 경우 캐시된 결과를 그대로 반환합니다.
+     */
+    private CalculationResponse calculateAndCache(CalculationKey cacheKey) {
+        CalculationResponse cached = cacheService.peekCachedResult(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        
+        long hourlyWage = cacheKey.getHourlyWage();
         
         // 큰 값 입력 경고
-        if (request.getHourlyWage() >= WAGE_WARNING_THRESHOLD) {
-            logger.warn("비현실적으로 높은 시급 입력: {}원/시간", request.getHourlyWage());
+        if (hourlyWage >= WAGE_WARNING_THRESHOLD) {
+            logger.warn("비현실적으로 높은 시급 입력: {}원/시간", hourlyWage);
+            CalculationMetrics.recordWarning(CalculationMetrics.WARNING_HIGH_WAGE);
         }
-        Long hourlyWage = request.getHourlyWage();
         
         // 선택지 A 계산
-        CostBreakdown optionA = calculateCostBreakdown(
-            request.getOptionA().getDirectCost(),
-            request.getOptionA().getTimeMinutes(),
-            hourlyWage
-        );
+        OptionCost optionA = calculateCostBreakdown(cacheKey.getDirectCostA(), cacheKey.getTimeMinutesA(), hourlyWage);
         
         // 선택지 B 계산
-        CostBreakdown optionB = calculateCostBreakdown(
-            request.getOptionB().getDirectCost(),
-            request.getOptionB().getTimeMinutes(),
-            hourlyWage
-        );
+        OptionCost optionB = calculateCostBreakdown(cacheKey.getDirectCostB(), cacheKey.getTimeMinutesB(), hourlyWage);
         
         // 추천 선택지 결정
-        String recommendation = determineRecommendation(optionA.getTotalCost(), optionB.getTotalCost());
+        String recommendation = determineRecommendation(optionA.totalCost(), optionB.totalCost());
         
         // 차액 계산 (절댓값)
-        Long costDifference = Math.abs(optionA.getTotalCost() - optionB.getTotalCost());
+        long costDifference = Math.abs(optionA.totalCost() - optionB.totalCost());
         
         // 계산식 설명 생성
         String formula = generateFormula(hourlyWage);
         
         // 큰 총 비용 경고
-        if (optionA.getTotalCost() >= TOTAL_COST_WARNING_THRESHOLD || 
-            optionB.getTotalCost() >= TOTAL_COST_WARNING_THRESHOLD) {
+        if (optionA.totalCost() >= TOTAL_COST_WARNING_THRESHOLD || 
+            optionB.totalCost() >= TOTAL_COST_WARNING_THRESHOLD) {
             logger.warn("비현실적으로 높은 총 비용 계산됨 - A: {}원, B: {}원", 
-                optionA.getTotalCost(), optionB.getTotalCost());
+                optionA.totalCost(), optionB.totalCost());
+            CalculationMetrics.recordWarning(CalculationMetrics.WARNING_HIGH_TOTAL_COST);
         }
         
-        logger.info("계산 완료 - 추천: {}, 차액: {}원", recommendation, costDifference);
+        // 요청 단위 추적 로그는 DEBUG에서만 출력 (운영 중 집계는 메트릭/주기적 통계 로그로 확인)
+        if (logger.isDebugEnabled()) {
+            logger.debug("계산 완료 - 시급: {}, 선택지A: {}원/{}분 → {}원, 선택지B: {}원/{}분 → {}원, 추천: {}, 차액: {}원",
+                hourlyWage,
+                cacheKey.getDirectCostA(), cacheKey.getTimeMinutesA(), optionA.totalCost(),
+                cacheKey.getDirectCostB(), cacheKey.getTimeMinutesB(), optionB.totalCost(),
+                recommendation, costDifference);
+        }
         
-        CalculationResponse response = new CalculationResponse(optionA, optionB, recommendation, costDifference, formula);
+        // 응답 DTO로 변환 (캐시에는 완성된 응답을 저장하여 히트 시 추가 할당 없음)
+        CalculationResponse response = new CalculationResponse(
+            optionA.toBreakdown(), optionB.toBreakdown(), recommendation, costDifference, formula);
         
         // 결과 캐싱
-        cacheService.cacheResult(request, response);
+        cacheService.cacheResult(cacheKey, response);
         
         return response;
     }
@@ -108,19 +164,63 @@ public class OpportunityCostService {
      * @param hourlyWage 시급 (원/시간)
      * @return 비용 분해 정보
      */
-    private CostBreakdown calculateCostBreakdown(Long directCost, Integer timeMinutes, Long hourlyWage) {
-        // 시간 비용 계산: (시급 / 60) × 소요 시간(분)
-        // 소수점 처리를 위해 double로 계산 후 floor 처리
-        double timeCostDouble = (hourlyWage / 60.0) * timeMinutes;
-        Long timeCost = (long) Math.floor(timeCostDouble);
-        
-        // 총 비용 계산: 직접 비용 + 시간 비용
-        Long totalCost = directCost + timeCost;
+    private OptionCost calculateCostBreakdown(long directCost, int timeMinutes, long hourlyWage) {
+        // 시급 × 소요 시간, 직접 비용 + 시간 비용이 long 범위를 넘는 입력(다안 비교의 시급은 상한 없음)은
+        // ArithmeticException을 만들지 않고 바로 거절 (입력 오류이므로 DEBUG로만 기록)
+        if (timeMinutes > 0 && hourlyWage > Long.MAX_VALUE / timeMinutes) {
+            logger.debug("비용 계산 범위 초과 - 시급: {}원/시간, 소요시간: {}분", hourlyWage, timeMinutes);
+            throw new CalculationRangeException();
+        }
+
+        long timeCost;
+        long totalCost;
+        try {
+            // 시간 비용: floor(시급 × 소요 시간 / 60), 정수 연산으로 정확하게 계산
+            timeCost = calculateTimeCost(hourlyWage, timeMinutes);
+            if (directCost > 0 && timeCost > Long.MAX_VALUE - directCost) {
+                logger.debug("총 비용 범위 초과 - 직접비용: {}원, 시간비용: {}원", directCost, timeCost);
+                throw new CalculationRangeException();
+            }
+            // 총 비용 계산: 직접 비용 + 시간 비용
+            totalCost = Math.addExact(directCost, timeCost);
+        } catch (ArithmeticException ex) {
+            // 사전 검사를 통과한 입력(음수 등)의 오버플로우는 예상 밖이므로 ERROR로 기록
+            logger.error("비용 계산 오버플로우 감지 - 직접비용: {}원, 시급: {}원/시간, 소요시간: {}분",
+                directCost, hourlyWage, timeMinutes);
+            throw new CalculationRangeException();
+        }
         
         // 계산 결과 논리 검증
         validateCalculationResult(directCost, timeCost, totalCost, timeMinutes, hourlyWage);
         
-        return new CostBreakdown(directCost, timeCost, totalCost);
+        return new OptionCost(directCost, timeCost, totalCost);
+    }
+    
+    /**
+     * 시간 비용을 계산합니다: floor(시급 × 소요 시간(분) / 60)
+     * 
+     * double 연산((시급 / 60.0) × 분)은 결과가 정수로 나누어떨어질 때 1원 작게
+     * 내림되는 경우가 있어(예: 11원/시간 × 300분 → 54원), 정수 연산으로 계산합니다.
+     * 곱셈이 long 범위를 넘으면 ArithmeticException이 발생합니다.
+     * 
+     * @param hourlyWage 시급 (원/시간)
+     * @param timeMinutes 소요 시간 (분)
+     * @return 시간 비용 (원)
+     */
+    static long calculateTimeCost(long hourlyWage, int timeMinutes) {
+        return Math.floorDiv(Math.multiplyExact(hourlyWage, timeMinutes), MINUTES_PER_HOUR);
+    }
+
+    /**
+     * 시간 비용 내림으로 버려진 부분을 반환합니다: (시급 × 소요 시간(분)) mod 60
+     * 정확한 시간 비용은 calculateTimeCost + 이 값 / 60 입니다.
+     *
+     * @param hourlyWage 시급 (원/시간)
+     * @param timeMinutes 소요 시간 (분)
+     * @return 0 이상 59 이하의 나머지
+     */
+    static int calculateTimeCostRemainder(long hourlyWage, int timeMinutes) {
+        return (int) Math.floorMod(Math.multiplyExact(hourlyWage, timeMinutes), MINUTES_PER_HOUR);
     }
     
     /**
@@ -132,44 +232,36 @@ public class OpportunityCostService {
      * @param timeMinutes 소요 시간 (분)
      * @param hourlyWage 시급 (원/시간)
      */
-    private void validateCalculationResult(Long directCost, Long timeCost, Long totalCost, 
-                                           Integer timeMinutes, Long hourlyWage) {
-        // 1. 오버플로우 체크 (Long 범위: -9,223,372,036,854,775,808 ~ 9,223,372,036,854,775,807)
+    private void validateCalculationResult(long directCost, long timeCost, long totalCost, 
+                                           int timeMinutes, long hourlyWage) {
+        // 1. 음수 결과 체크 (오버플로우는 Math.addExact/multiplyExact가 감지)
         if (totalCost < 0 || totalCost < directCost || totalCost < timeCost) {
-            logger.error("총 비용 오버플로우 감지 - 직접비용: {}원, 시간비용: {}원, 총비용: {}원", 
+            logger.error("총 비용 범위 오류 감지 - 직접비용: {}원, 시간비용: {}원, 총비용: {}원", 
                 directCost, timeCost, totalCost);
-            throw new IllegalArgumentException("계산 결과가 범위를 초과했습니다. 입력값을 확인해주세요.");
+            throw new CalculationRangeException();
         }
         
         // 2. 시간 비용이 비현실적으로 높은지 체크
         // 시간 비용이 직접 비용의 100배를 초과하면 경고
         if (directCost > 0 && timeCost > directCost * 100) {
-            logger.warn("시간 비용이 직접 비용의 100배 초과 - 직접비용: {}원, 시간비용: {}원, 소요시간: {}분", 
+            logger.warn("시간 비용이 직접 비용의 100배 초과 (소요 시간 단위 입력 오류 가능성) - 직접비용: {}원, 시간비용: {}원, 소요시간: {}분", 
                 directCost, timeCost, timeMinutes);
-            logger.warn("입력 오류 가능성: 소요 시간을 시간 단위로 입력하지 않았는지 확인 필요");
+            CalculationMetrics.recordWarning(CalculationMetrics.WARNING_TIME_COST_RATIO);
         }
         
         // 3. 총 비용이 비현실적으로 높은지 체크
         // 총 비용이 10억원(1,000,000,000)을 초과하면 경고
         if (totalCost > 1_000_000_000L) {
-            logger.warn("총 비용이 10억원 초과 - 총비용: {}원, 시급: {}원/시간, 소요시간: {}분", 
+            logger.warn("총 비용이 10억원 초과 (시급/소요 시간 입력 오류 가능성) - 총비용: {}원, 시급: {}원/시간, 소요시간: {}분", 
                 totalCost, hourlyWage, timeMinutes);
-            logger.warn("입력 오류 가능성: 시급이나 소요 시간을 잘못 입력하지 않았는지 확인 필요");
+            CalculationMetrics.recordWarning(CalculationMetrics.WARNING_TOTAL_COST_OVER_LIMIT);
         }
         
         // 4. 직접 비용 대비 시간 비용 비율 체크
         // 시간이 0분이 아닌데 시간 비용이 0원이면 경고 (시급이 60원 미만인 경우)
         if (timeMinutes > 0 && timeCost == 0) {
-            logger.warn("소요 시간이 {}분인데 시간 비용이 0원 - 시급: {}원/시간", timeMinutes, hourlyWage);
-            logger.warn("시급이 너무 낮아 시간 비용이 계산되지 않았습니다.");
-        }
-        
-        // 5. 논리적 일관성 체크
-        // 총 비용 = 직접 비용 + 시간 비용 공식 검증
-        if (!totalCost.equals(directCost + timeCost)) {
-            logger.error("계산식 오류 감지 - 총비용({}) ≠ 직접비용({}) + 시간비용({})", 
-                totalCost, directCost, timeCost);
-            throw new IllegalStateException("계산 로직에 오류가 발생했습니다.");
+            logger.warn("소요 시간이 {}분인데 시간 비용이 0원 (시급이 너무 낮음) - 시급: {}원/시간", timeMinutes, hourlyWage);
+            CalculationMetrics.recordWarning(CalculationMetrics.WARNING_ZERO_TIME_COST);
         }
     }
     
@@ -180,7 +272,7 @@ public class OpportunityCostService {
      * @param totalCostB 선택지 B의 총 비용
      * @return "A", "B", 또는 "동일"
      */
-    private String determineRecommendation(Long totalCostA, Long totalCostB) {
+    private String determineRecommendation(long totalCostA, long totalCostB) {
         if (totalCostA < totalCostB) {
             return "A";
         } else if (totalCostB < totalCostA) {
@@ -197,61 +289,190 @@ public class OpportunityCostService {
      * @return 다안 비교 결과
      */
     public MultiComparisonResponse calculateMulti(MultiComparisonRequest request) {
-        logger.info("다안 비교 요청 - 시급: {}, 선택지 개수: {}", 
-            request.getHourlyWage(), request.getOptions().size());
+        // 캐시 확인 (시급 + 입력 순서대로의 선택지 목록)
+        MultiComparisonKey cacheKey = MultiComparisonKey.of(request);
+        MultiComparisonResponse cached = cacheService.getCachedMultiResult(cacheKey);
+        if (cached != null) {
+            logger.debug("캐시된 다안 비교 결과 반환 - {}", cacheKey);
+            return cached;
+        }
+        
+        return multiCalculations.execute(cacheKey, () -> calculateMultiAndCache(cacheKey));
+    }
+
+    /**
+     * 다안 비교를 수행합니다 (리액티브 모드용, 스레드를 막지 않음).
+     * 
+     * @param request 다안 비교 요청 정보
+     * @return 다안 비교 결과
+     */
+    public CompletableFuture<MultiComparisonResponse> calculateMultiAsync(MultiComparisonRequest request) {
+        MultiComparisonKey cacheKey = MultiComparisonKey.of(request);
+        MultiComparisonResponse cached = cacheService.getCachedMultiResult(cacheKey);
+        if (cached != null) {
+            logger.debug("캐시된 다안 비교 결과 반환 - {}", cacheKey);
+            return CompletableFuture.completedFuture(cached);
+        }
         
-        Long hourlyWage = request.getHourlyWage();
-        List<ComparisonOption> options = request.getOptions();
+        return multiCalculations.executeAsync(cacheKey, () -> calculateMultiAndCache(cacheKey));
+    }
+    
+    /**
+     * 캐시 예열용 다안 비교 계산 (캐시 히트/미스 통계와 동시 계산 병합을 거치지 않고 결과를 캐시에 저장)
+     * 
+     * @param request 검증을 통과한 다안 비교 요청 정보
+     */
+    void warmUpMulti(MultiComparisonRequest request) {
+        calculateMultiAndCache(MultiComparisonKey.of(request));
+    }
+    
+    /**
+     * 다안 비교를 계산하여 캐시에 저장합니다.
+     * 앞서 같은 입력의 계산이 막 끝난 경우 캐시된 결과를 그대로 반환합니다.
+     */
+    private MultiComparisonResponse calculateMultiAndCache(MultiComparisonKey cacheKey) {
+        MultiComparisonResponse cached = cacheService.peekCachedMultiResult(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        
+        long hourlyWage = cacheKey.getHourlyWage();
+        int optionCount = cacheKey.getOptionCount();
         
         // 각 선택지의 비용 계산
-        List<OptionResult> results = new ArrayList<>();
-        for (int i = 0; i < options.size(); i++) {
-            ComparisonOption option = options.get(i);
-            CostBreakdown breakdown = calculateCostBreakdown(
-                option.getDirectCost(),
-                option.getTimeMinutes(),
-                hourlyWage
-            );
-            
-            OptionResult result = new OptionResult(
-                i + 1,
-                "선택지 " + (char)('A' + i),
-                breakdown
-            );
-            results.add(result);
+        OptionCost[] costs = new OptionCost[optionCount];
+        for (int i = 0; i < optionCount; i++) {
+            costs[i] = calculateCostBreakdown(cacheKey.getDirectCost(i), cacheKey.getTimeMinutes(i), hourlyWage);
         }
         
-        // 총 비용 기준으로 정렬
-        results.sort(Comparator.comparing(r -> r.getBreakdown().getTotalCost()));
+        // 총 비용 기준으로 정렬 (동일 비용은 입력 순서 유지)
+        int[] order = sortByTotalCost(costs);
         
         // 최소/최대 비용 및 추천 선택지 결정
-        Long minTotalCost = results.get(0).getBreakdown().getTotalCost();
-        Long maxTotalCost = results.get(results.size() - 1).getBreakdown().getTotalCost();
-        Long maxDifference = maxTotalCost - minTotalCost;
+        long minTotalCost = costs[order[0]].totalCost();
+        long maxTotalCost = costs[order[optionCount - 1]].totalCost();
+        long maxDifference = maxTotalCost - minTotalCost;
         
         // 최소 비용인 선택지가 여러 개인지 확인
         Integer recommendedOption = null;
-        long firstCost = results.get(0).getBreakdown().getTotalCost();
-        if (results.stream().filter(r -> r.getBreakdown().getTotalCost().equals(firstCost)).count() == 1) {
-            recommendedOption = results.get(0).getOptionNumber();
+        if (optionCount == 1 || costs[order[1]].totalCost() != minTotalCost) {
+            recommendedOption = order[0] + 1;
         }
         
         // 계산식 설명 생성
         String formula = generateFormula(hourlyWage);
         
-        logger.info("다안 비교 완료 - 추천 선택지: {}, 최소 비용: {}원, 최대 비용: {}원", 
-            recommendedOption, minTotalCost, maxTotalCost);
+        if (logger.isDebugEnabled()) {
+            logger.debug("다안 비교 완료 - 시급: {}, 선택지 개수: {}, 추천 선택지: {}, 최소 비용: {}원, 최대 비용: {}원",
+                hourlyWage, optionCount, recommendedOption, minTotalCost, maxTotalCost);
+        }
+        
+        // 응답 DTO로 변환
+        List<OptionResult> results = new ArrayList<>(optionCount);
+        for (int index : order) {
+            results.add(new OptionResult(index + 1, optionName(index), costs[index].toBreakdown()));
+        }
+        MultiComparisonResponse response = new MultiComparisonResponse(
+            results, recommendedOption, minTotalCost, maxTotalCost, maxDifference, formula);
+        
+        // 결과 캐싱
+        cacheService.cacheMultiResult(cacheKey, response);
+        
+        return response;
+    }
+    
+    /**
+     * 진행 중인 같은 계산에 합류하여 계산을 생략한 요청 수 (2안 비교, 누적)
+     */
+    long getCoalescedCount() {
+        return calculations.coalescedCount();
+    }
+    
+    /**
+     * 진행 중인 같은 계산에 합류하여 계산을 생략한 요청 수 (다안 비교, 누적)
+     */
+    long getMultiCoalescedCount() {
+        return multiCalculations.coalescedCount();
+    }
+    
+    /**
+     * 다안 비교 결과에 순위 조건(topK, 총 비용 상한, 최저 비용과의 차액 상한)을 적용합니다.
+     * 결과는 이미 총 비용 오름차순이므로 앞에서부터 조건을 벗어나는 지점까지만 담습니다.
+     * 최소/최대 비용과 추천 선택지는 전체 선택지 기준으로 유지합니다.
+     * 
+     * @param response 다안 비교 결과 (캐시된 객체일 수 있으므로 변경하지 않음)
+     * @param filter 순위 조건
+     * @return 조건을 적용한 다안 비교 결과 (조건이 없으면 입력 그대로)
+     */
+    public MultiComparisonResponse applyFilter(MultiComparisonResponse response, RankingFilter filter) {
+        if (filter.isEmpty()) {
+            return response;
+        }
+        
+        long costCeiling = filter.costCeiling(response.getMinTotalCost());
+        int limit = filter.limit(response.getResults().size());
+        List<OptionResult> filtered = new ArrayList<>(limit);
+        for (OptionResult result : response.getResults()) {
+            if (filtered.size() == limit || result.getBreakdown().getTotalCost() > costCeiling) {
+                break;
+            }
+            filtered.add(result);
+        }
         
-        return new MultiComparisonResponse(results, recommendedOption, minTotalCost, maxTotalCost, maxDifference, formula);
+        return new MultiComparisonResponse(filtered, response.getRecommendedOption(),
+            response.getMinTotalCost(), response.getMaxTotalCost(), response.getMaxDifference(),
+            response.getFormula());
+    }
+    
+    /**
+     * 총 비용 오름차순으로 정렬한 선택지 위치를 반환합니다.
+     * 선택지 수가 적으므로 삽입 정렬을 사용하며, 동일 비용은 입력 순서를 유지합니다.
+     * 
+     * @param costs 입력 순서대로의 선택지 비용
+     * @return 정렬된 선택지 위치 (0부터 시작)
+     */
+    private int[] sortByTotalCost(OptionCost[] costs) {
+        int[] order = new int[costs.length];
+        for (int i = 0; i < costs.length; i++) {
+            int j = i;
+            while (j > 0 && costs[order[j - 1]].totalCost() > costs[i].totalCost()) {
+                order[j] = order[j - 1];
+                j--;
+            }
+            order[j] = i;
+        }
+        return order;
+    }
+    
+    /**
+     * 선택지 이름을 반환합니다.
+     * 26개까지는 "선택지 A"~"선택지 Z", 그 이후는 번호로 "선택지 27"과 같이 표시합니다.
+     * 
+     * @param index 선택지 위치 (0부터 시작)
+     * @return 선택지 이름
+     */
+    static String optionName(int index) {
+        return index < 26 ? "선택지 " + (char)('A' + index) : "선택지 " + (index + 1);
+    }
+    
+    /**
+     * 계산식 설명을 반환합니다.
+     * 같은 시급에 대해서는 캐시된 문자열을 재사용합니다.
+     * 
+     * @param hourlyWage 시급 (원/시간)
+     * @return 계산식 설명 문자열
+     */
+    String generateFormula(Long hourlyWage) {
+        return formulaCache.get(hourlyWage, this::formatFormula);
     }
     
     /**
-     * 계산식 설명을 생성합니다.
+     * 계산식 설명 문자열을 생성합니다 (캐시를 거치지 않음).
      * 
      * @param hourlyWage 시급 (원/시간)
      * @return 계산식 설명 문자열
      */
-    private String generateFormula(Long hourlyWage) {
+    String formatFormula(Long hourlyWage) {
         double perMinuteValue = hourlyWage / 60.0;
         return String.format(
             "총 비용 = 직접 비용 + (시급 ÷ 60) × 소요 시간(분)\n" +
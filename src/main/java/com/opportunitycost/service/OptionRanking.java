@@ -0,0 +1,148 @@
+package com.opportunitycost.service;
+
+/**
+ * 선택지 총 비용 순위 계산
+ *
+ * 전체 정렬 대신 크기 K의 최대 힙으로 상위 K개만 선택합니다 (O(N log K), 추가 메모리 O(K)).
+ * 순위는 내림 전 정확한 총 비용(60·C + T·W) 오름차순이며, 같으면 소요 시간이 짧은 것,
+ * 그다음 입력 순서(위치가 작은 것)가 앞섭니다. 최저 비용 선택지 조회({@link CostEnvelope})와 같은 순서입니다.
+ *
+ * 정확한 총 비용은 60 × (내림한 총 비용) + (T·W를 60으로 나눈 나머지)이므로,
+ * 곱셈 없이 내림한 총 비용과 나머지를 차례로 비교합니다.
+ */
+final class OptionRanking {
+
+    private OptionRanking() {
+    }
+
+    /**
+     * 순위 비교에 쓰는 선택지별 값
+     *
+     * @param totals 입력 순서대로의 총 비용 (시간 비용 내림)
+     * @param remainders 입력 순서대로의 T·W를 60으로 나눈 나머지 (내림으로 버려진 부분)
+     * @param timeMinutes 입력 순서대로의 소요 시간 (분)
+     */
+    record Keys(long[] totals, byte[] remainders, int[] timeMinutes) {
+    }
+
+    /**
+     * 총 비용이 낮은 순서로 상위 k개 선택지의 위치를 반환합니다.
+     *
+     * @param keys 선택지별 순위 비교 값
+     * @param k 선택할 개수 (선택지 수보다 크면 전체)
+     * @return 순위 순서대로의 선택지 위치 (0부터 시작)
+     */
+    static int[] topK(Keys keys, int k) {
+        return topK(keys, k, Long.MAX_VALUE);
+    }
+
+    /**
+     * 총 비용이 상한 이하인 선택지 중 총 비용이 낮은 순서로 상위 k개의 위치를 반환합니다.
+     *
+     * @param keys 선택지별 순위 비교 값
+     * @param k 선택할 개수
+     * @param costCeiling 총 비용 상한 (이하 포함)
+     * @return 순위 순서대로의 선택지 위치 (조건을 만족하는 선택지가 k개보다 적으면 그 수만큼)
+     */
+    static int[] topK(Keys keys, int k, long costCeiling) {
+        long[] totals = keys.totals();
+        k = Math.min(k, totals.length);
+        if (k <= 0) {
+            return new int[0];
+        }
+
+        // 루트가 지금까지 선택된 것 중 순위가 가장 낮은 선택지
+        int[] heap = new int[k];
+        int size = 0;
+        for (int i = 0; i < totals.length; i++) {
+            if (totals[i] > costCeiling) {
+                continue;
+            }
+            if (size < k) {
+                heap[size] = i;
+                siftUp(heap, size++, keys);
+            } else if (ranksBefore(keys, i, heap[0])) {
+                heap[0] = i;
+                siftDown(heap, k, keys);
+            }
+        }
+
+        // 힙에서 순위가 낮은 것부터 꺼내 뒤에서부터 채움
+        int[] ranked = new int[size];
+        for (int end = size - 1; end >= 0; end--) {
+            ranked[end] = heap[0];
+            heap[0] = heap[end];
+            siftDown(heap, end, keys);
+        }
+        return ranked;
+    }
+
+    /**
+     * 총 비용이 상한 이하인 선택지 수를 셉니다.
+     */
+    static int countAtMost(long[] totals, long costCeiling) {
+        int count = 0;
+        for (long total : totals) {
+            if (total <= costCeiling) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 선택지 a가 선택지 b보다 순위가 앞서는지 확인합니다.
+     */
+    static boolean ranksBefore(Keys keys, int a, int b) {
+        long[] totals = keys.totals();
+        if (totals[a] != totals[b]) {
+            return totals[a] < totals[b];
+        }
+        byte[] remainders = keys.remainders();
+        if (remainders[a] != remainders[b]) {
+            return remainders[a] < remainders[b];
+        }
+        int[] timeMinutes = keys.timeMinutes();
+        if (timeMinutes[a] != timeMinutes[b]) {
+            return timeMinutes[a] < timeMinutes[b];
+        }
+        return a < b;
+    }
+
+    private static void siftUp(int[] heap, int i, Keys keys) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!ranksBefore(keys, heap[parent], heap[i])) {
+                return;
+            }
+            swap(heap, parent, i);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, Keys keys) {
+        int i = 0;
+        while (true) {
+            int lowest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && ranksBefore(keys, heap[lowest], heap[left])) {
+                lowest = left;
+            }
+            if (right < size && ranksBefore(keys, heap[lowest], heap[right])) {
+                lowest = right;
+            }
+            if (lowest == i) {
+                return;
+            }
+            swap(heap, i, lowest);
+            i = lowest;
+        }
+    }
+
+    private static void swap(int[] heap, int a, int b) {
+        int tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+}
@@ -0,0 +1,168 @@
+package com.opportunitycost.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.opportunitycost.dto.CheapestOptionResponse;
+import com.opportunitycost.dto.CostBreakdown;
+import com.opportunitycost.dto.LargeComparisonResponse;
+import com.opportunitycost.dto.OptionSetRequest;
+import com.opportunitycost.dto.OptionSetResponse;
+import com.opportunitycost.exception.CalculationRangeException;
+import com.opportunitycost.exception.OptionSetNotFoundException;
+import com.opportunitycost.repository.OptionSetRepository;
+import com.opportunitycost.repository.StoredOptionSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 선택지 묶음 등록/조회 서비스
+ *
+ * 같은 선택지 묶음을 여러 시급으로 반복 비교하는 경우를 위해, 묶음을 저장소(H2)에 저장하고
+ * 총 비용 직선의 하한 포락선을 미리 계산해 둡니다. 이후 시급별 최저 비용 선택지는 손익분기 시급에
+ * 대한 이진 탐색으로 O(log N)에 찾으므로, 매번 전체 선택지를 계산·정렬하지 않습니다.
+ * 포락선까지 계산된 묶음은 Caffeine 읽기 캐시에 보관하며, 없을 때만 저장소에서 읽어 다시 계산합니다.
+ * 묶음 하나가 최대 100,000개 선택지를 가지므로, 캐시 크기는 묶음 수가 아닌 선택지 수 합계로 제한합니다.
+ */
+@Service
+public class OptionSetService implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptionSetService.class);
+
+    private final OptionSetRepository repository;
+    private final LargeComparisonService largeComparisonService;
+    private final LoadingCache<Long, RegisteredOptionSet> optionSets;
+    private final long maxCount;
+
+    /**
+     * @param maxCount 저장 가능한 최대 선택지 묶음 수
+     * @param cacheMaxOptions 포락선까지 계산해 캐시에 보관하는 묶음들의 최대 선택지 수 합계
+     */
+    public OptionSetService(OptionSetRepository repository, LargeComparisonService largeComparisonService,
+                            @Value("${calculation.option-sets.max-count:10000}") long maxCount,
+                            @Value("${calculation.option-sets.cache-max-options:1000000}") long cacheMaxOptions) {
+        this.repository = repository;
+        this.largeComparisonService = largeComparisonService;
+        this.maxCount = maxCount;
+        this.optionSets = Caffeine.newBuilder()
+            .maximumWeight(cacheMaxOptions)
+            .weigher((Long id, RegisteredOptionSet set) -> set.getOptionCount())
+            .executor(Runnable::run)
+            .recordStats()
+            .build(this::load);
+    }
+
+    /**
+     * 캐시 메트릭 등록 (cache=option-sets)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, optionSets, "option-sets");
+    }
+
+    private RegisteredOptionSet load(long optionSetId) {
+        StoredOptionSet stored = repository.findById(optionSetId);
+        if (stored == null) {
+            return null;
+        }
+        logger.debug("선택지 묶음 로드 - ID: {}, 선택지: {}개", optionSetId, stored.timeMinutes().length);
+        return new RegisteredOptionSet(optionSetId, stored.timeMinutes(), stored.directCosts());
+    }
+
+    /**
+     * 선택지 묶음을 등록합니다.
+     *
+     * @param request 선택지 묶음 등록 요청 정보
+     * @return 등록된 묶음 ID와 최저 비용 후보 수
+     */
+    public OptionSetResponse register(OptionSetRequest request) {
+        RegisteredOptionSet parsed = RegisteredOptionSet.of(0L, request.getOptions());
+        // 등록 수 제한은 저장소가 저장과 함께 원자적으로 검사
+        Long id = repository.save(parsed.getTimeMinutes(), parsed.getDirectCosts(), maxCount);
+        if (id == null) {
+            throw new IllegalArgumentException("등록 가능한 선택지 묶음 수(" + maxCount + "개)를 초과했습니다.");
+        }
+        RegisteredOptionSet optionSet = new RegisteredOptionSet(id, parsed.getTimeMinutes(), parsed.getDirectCosts());
+        optionSets.put(id, optionSet);
+
+        logger.info("선택지 묶음 등록 - ID: {}, 선택지: {}개, 최저 비용 후보: {}개",
+            id, optionSet.getOptionCount(), optionSet.getEnvelope().segmentCount());
+
+        return new OptionSetResponse(id, optionSet.getOptionCount(), optionSet.getEnvelope().segmentCount());
+    }
+
+    /**
+     * 등록된 선택지 묶음에서 주어진 시급의 최저 비용 선택지를 찾습니다.
+     * 손익분기 시급에서 비용이 같으면 소요 시간이 짧은 선택지를 반환합니다.
+     *
+     * @param optionSetId 선택지 묶음 ID
+     * @param hourlyWage 시급 (원/시간)
+     * @return 최저 비용 선택지와 비용 분해
+     */
+    public CheapestOptionResponse findCheapest(long optionSetId, long hourlyWage) {
+        if (hourlyWage < 1) {
+            throw new IllegalArgumentException("시급은 1원 이상이어야 합니다.");
+        }
+        RegisteredOptionSet optionSet = get(optionSetId);
+
+        int index = optionSet.getEnvelope().cheapestAt(hourlyWage);
+        long directCost = optionSet.getDirectCost(index);
+        long timeCost;
+        long totalCost;
+        try {
+            timeCost = OpportunityCostService.calculateTimeCost(hourlyWage, optionSet.getTimeMinutes(index));
+            totalCost = Math.addExact(directCost, timeCost);
+        } catch (ArithmeticException ex) {
+            throw new CalculationRangeException();
+        }
+
+        return new CheapestOptionResponse(optionSetId, hourlyWage, index + 1,
+            OpportunityCostService.optionName(index), new CostBreakdown(directCost, timeCost, totalCost));
+    }
+
+    /**
+     * 등록된 선택지 묶음 전체를 주어진 시급으로 비교합니다 (대량 다안 비교와 같은 응답).
+     * 저장된 선택지를 그대로 사용하므로 요청마다 선택지를 다시 파싱·검증하지 않습니다.
+     *
+     * @param optionSetId 선택지 묶음 ID
+     * @param hourlyWage 시급 (원/시간)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (1~1,000)
+     * @param filter 순위 조건
+     * @return 요청한 페이지의 순위와 전체 통계
+     */
+    public LargeComparisonResponse rank(long optionSetId, long hourlyWage, int page, int size, RankingFilter filter) {
+        if (hourlyWage < 1) {
+            throw new IllegalArgumentException("시급은 1원 이상이어야 합니다.");
+        }
+        RegisteredOptionSet optionSet = get(optionSetId);
+        return largeComparisonService.compare(hourlyWage, optionSet.getTimeMinutes(), optionSet.getDirectCosts(),
+            page, size, filter);
+    }
+
+    /**
+     * 선택지 묶음을 삭제합니다.
+     *
+     * @param optionSetId 선택지 묶음 ID
+     */
+    public void delete(long optionSetId) {
+        // 행을 먼저 지운 뒤 캐시를 비워야 삭제 도중 조회가 옛 행을 다시 캐시에 올리지 않음
+        if (!repository.deleteById(optionSetId)) {
+            throw new OptionSetNotFoundException(optionSetId);
+        }
+        optionSets.invalidate(optionSetId);
+        logger.info("선택지 묶음 삭제 - ID: {}", optionSetId);
+    }
+
+    private RegisteredOptionSet get(long optionSetId) {
+        RegisteredOptionSet optionSet = optionSets.get(optionSetId);
+        if (optionSet == null) {
+            throw new OptionSetNotFoundException(optionSetId);
+        }
+        return optionSet;
+    }
+}
@@ -0,0 +1,113 @@
+package com.opportunitycost.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.opportunitycost.dto.ProfileRequest;
+import com.opportunitycost.exception.ProfileNotFoundException;
+import com.opportunitycost.model.WageProfile;
+import com.opportunitycost.repository.WageProfileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 시급 프로필 서비스
+ *
+ * 시급을 프로필로 저장해 두고 요청에서는 프로필 ID만 보내도록 합니다.
+ * 조회는 Caffeine 읽기 캐시를 거치며, 없을 때만 저장소(H2)에서 읽습니다.
+ */
+@Service
+public class ProfileService implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileService.class);
+
+    private final WageProfileRepository repository;
+    private final LoadingCache<Long, WageProfile> profiles;
+
+    /**
+     * @param cacheSize 조회 캐시에 보관하는 최대 프로필 수
+     */
+    public ProfileService(WageProfileRepository repository,
+                          @Value("${calculation.profiles.cache-size:10000}") long cacheSize) {
+        this.repository = repository;
+        this.profiles = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .executor(Runnable::run)
+            .recordStats()
+            .build(repository::findById);
+    }
+
+    /**
+     * 캐시 메트릭 등록 (cache=profiles)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, profiles, "profiles");
+    }
+
+    /**
+     * 시급 프로필을 저장합니다.
+     *
+     * @param request 시급 프로필 저장 요청 정보
+     * @return 저장된 프로필
+     */
+    public WageProfile create(ProfileRequest request) {
+        long id = repository.save(request.getName(), request.getHourlyWage());
+        WageProfile profile = new WageProfile(id, request.getName(), request.getHourlyWage());
+        profiles.put(id, profile);
+        logger.info("시급 프로필 저장 - ID: {}", id);
+        return profile;
+    }
+
+    /**
+     * 시급 프로필을 조회합니다.
+     *
+     * @param profileId 프로필 ID
+     * @return 프로필
+     */
+    public WageProfile get(long profileId) {
+        WageProfile profile = profiles.get(profileId);
+        if (profile == null) {
+            throw new ProfileNotFoundException(profileId);
+        }
+        return profile;
+    }
+
+    /**
+     * 시급 프로필을 삭제합니다.
+     *
+     * @param profileId 프로필 ID
+     */
+    public void delete(long profileId) {
+        // 행을 먼저 지운 뒤 캐시를 비워야 삭제 도중 조회가 옛 행을 다시 캐시에 올리지 않음
+        if (!repository.deleteById(profileId)) {
+            throw new ProfileNotFoundException(profileId);
+        }
+        profiles.invalidate(profileId);
+        logger.info("시급 프로필 삭제 - ID: {}", profileId);
+    }
+
+    /**
+     * 직접 입력한 시급 또는 프로필 ID 중 하나로 시급을 결정합니다.
+     *
+     * @param profileId 프로필 ID (null 가능)
+     * @param hourlyWage 시급 (null 가능)
+     * @return 시급 (원/시간)
+     */
+    public long resolveWage(Long profileId, Long hourlyWage) {
+        if ((profileId == null) == (hourlyWage == null)) {
+            throw new IllegalArgumentException("시급(hourlyWage) 또는 프로필 ID(profileId) 중 하나만 입력해주세요.");
+        }
+        if (hourlyWage != null) {
+            if (hourlyWage < 1) {
+                throw new IllegalArgumentException("시급은 1원 이상이어야 합니다.");
+            }
+            return hourlyWage;
+        }
+        return get(profileId).getHourlyWage();
+    }
+}
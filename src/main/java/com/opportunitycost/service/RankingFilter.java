@@ -0,0 +1,62 @@
+package com.opportunitycost.service;
+
+/**
+ * 다안 비교 순위 조건 (쿼리 파라미터)
+ *
+ * 상한 조건(총 비용 상한, 최저 비용과의 차액 상한)은 하나의 총 비용 상한으로 합쳐
+ * 선택지를 한 번 훑으면서 걸러내고, 상위 K개는 크기 K의 힙으로 선택합니다.
+ *
+ * @param topK 총 비용이 낮은 순서로 최대 K개 (null이면 제한 없음)
+ * @param maxTotalCost 총 비용 상한, 이하만 포함 (null이면 제한 없음)
+ * @param maxDiffFromBest 최저 총 비용과의 차액 상한, 이하만 포함 (null이면 제한 없음)
+ */
+public record RankingFilter(Integer topK, Long maxTotalCost, Long maxDiffFromBest) {
+
+    /**
+     * 조건 없음
+     */
+    public static final RankingFilter NONE = new RankingFilter(null, null, null);
+
+    public RankingFilter {
+        if (topK != null && topK < 1) {
+            throw new IllegalArgumentException("topK는 1 이상이어야 합니다.");
+        }
+        if (maxTotalCost != null && maxTotalCost < 0) {
+            throw new IllegalArgumentException("총 비용 상한은 0원 이상이어야 합니다.");
+        }
+        if (maxDiffFromBest != null && maxDiffFromBest < 0) {
+            throw new IllegalArgumentException("최저 비용과의 차액 상한은 0원 이상이어야 합니다.");
+        }
+    }
+
+    /**
+     * 조건이 하나도 없는지 확인합니다.
+     */
+    public boolean isEmpty() {
+        return topK == null && maxTotalCost == null && maxDiffFromBest == null;
+    }
+
+    /**
+     * 상한 조건을 하나로 합친 총 비용 상한을 반환합니다.
+     *
+     * @param minTotalCost 전체 선택지 중 최저 총 비용
+     * @return 포함할 총 비용 상한 (이하 포함, 조건이 없으면 Long.MAX_VALUE)
+     */
+    long costCeiling(long minTotalCost) {
+        long ceiling = maxTotalCost != null ? maxTotalCost : Long.MAX_VALUE;
+        if (maxDiffFromBest != null) {
+            // 최저 비용 + 차액이 long 범위를 넘으면 제한 없음과 같음
+            long bestPlusDiff = minTotalCost > Long.MAX_VALUE - maxDiffFromBest
+                ? Long.MAX_VALUE : minTotalCost + maxDiffFromBest;
+            ceiling = Math.min(ceiling, bestPlusDiff);
+        }
+        return ceiling;
+    }
+
+    /**
+     * 조건을 만족하는 선택지 수에 topK 제한을 적용합니다.
+     */
+    int limit(int matchedCount) {
+        return topK != null ? Math.min(topK, matchedCount) : matchedCount;
+    }
+}
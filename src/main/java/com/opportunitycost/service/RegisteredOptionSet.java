@@ -0,0 +1,68 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.model.ComparisonOption;
+
+import java.util.List;
+
+/**
+ * 등록된 선택지 묶음
+ * 선택지를 원시 타입 배열로 보관하고, 시급별 최저 비용 조회용 포락선을 등록 시 한 번만 계산합니다.
+ */
+final class RegisteredOptionSet {
+
+    private final long id;
+    private final int[] timeMinutes;
+    private final long[] directCosts;
+    private final CostEnvelope envelope;
+
+    RegisteredOptionSet(long id, int[] timeMinutes, long[] directCosts) {
+        this.id = id;
+        this.timeMinutes = timeMinutes;
+        this.directCosts = directCosts;
+        this.envelope = CostEnvelope.of(timeMinutes, directCosts);
+    }
+
+    static RegisteredOptionSet of(long id, List<ComparisonOption> options) {
+        int[] timeMinutes = new int[options.size()];
+        long[] directCosts = new long[options.size()];
+        for (int i = 0; i < timeMinutes.length; i++) {
+            timeMinutes[i] = options.get(i).getTimeMinutes();
+            directCosts[i] = options.get(i).getDirectCost();
+        }
+        return new RegisteredOptionSet(id, timeMinutes, directCosts);
+    }
+
+    long getId() {
+        return id;
+    }
+
+    int getOptionCount() {
+        return timeMinutes.length;
+    }
+
+    /**
+     * 입력 순서대로의 소요 시간 (공유 배열이므로 변경하지 않음)
+     */
+    int[] getTimeMinutes() {
+        return timeMinutes;
+    }
+
+    /**
+     * 입력 순서대로의 직접 비용 (공유 배열이므로 변경하지 않음)
+     */
+    long[] getDirectCosts() {
+        return directCosts;
+    }
+
+    int getTimeMinutes(int index) {
+        return timeMinutes[index];
+    }
+
+    long getDirectCost(int index) {
+        return directCosts[index];
+    }
+
+    CostEnvelope getEnvelope() {
+        return envelope;
+    }
+}
@@ -0,0 +1,111 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.metrics.CalculationMetrics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 계산 병합 (single-flight)
+ *
+ * 같은 키로 계산 중인 요청이 있으면 새로 계산하지 않고 진행 중인 결과를 함께 기다립니다.
+ * 계산이 끝나면 키를 바로 제거하므로 결과를 보관하지 않으며, 보관은 계산 캐시가 담당합니다.
+ * 계산 중 발생한 예외는 기다리던 요청 모두에 같은 예외로 전달됩니다.
+ *
+ * @param <K> 키 타입 (equals/hashCode 구현 필요)
+ * @param <V> 결과 타입
+ */
+final class SingleFlight<K, V> {
+
+    private final String name;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * @param name 메트릭 태그 값 (예: calculate, multi)
+     */
+    SingleFlight(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 같은 키의 계산이 진행 중이면 그 결과를, 아니면 직접 계산한 결과를 반환합니다.
+     *
+     * @param key 계산 키
+     * @param calculation 계산 (진행 중인 계산이 없을 때만 호출)
+     * @return 계산 결과
+     */
+    V execute(K key, Supplier<V> calculation) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            coalesced.increment();
+            CalculationMetrics.recordCoalesced(name);
+            return await(running);
+        }
+
+        try {
+            V result = calculation.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * 대기 없이 결과를 받는 {@link #execute}입니다 (리액티브 모드의 이벤트 루프용).
+     * 진행 중인 계산이 없으면 호출한 스레드에서 바로 계산하여 완료된 결과를 반환하고,
+     * 있으면 스레드를 막지 않고 진행 중인 계산이 끝날 때 완료되는 결과를 반환합니다.
+     *
+     * @param key 계산 키
+     * @param calculation 계산 (진행 중인 계산이 없을 때만 호출)
+     * @return 계산 결과 (계산 중 예외는 실패한 결과로 전달)
+     */
+    CompletableFuture<V> executeAsync(K key, Supplier<V> calculation) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            coalesced.increment();
+            CalculationMetrics.recordCoalesced(name);
+            // 기다리는 쪽의 취소가 다른 요청에 전파되지 않도록 복사본 반환
+            return running.copy();
+        }
+
+        try {
+            call.complete(calculation.get());
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+        } finally {
+            inFlight.remove(key, call);
+        }
+        return call;
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * 진행 중인 계산에 합류한 요청 수 (누적)
+     */
+    long coalescedCount() {
+        return coalesced.sum();
+    }
+}
@@ -0,0 +1,52 @@
+package com.opportunitycost.service;
+
+import java.util.Map;
+
+/**
+ * 요청 검증 결과
+ *
+ * 검증 오류를 예외 대신 값으로 반환하여, 잘못된 입력도 예외 생성과 스택 트레이스 없이 400으로 응답합니다.
+ * 오류 맵(필드 → 메시지)은 변경할 수 없으며 응답 본문으로 그대로 사용합니다.
+ */
+public final class ValidationResult {
+
+    private static final ValidationResult VALID = new ValidationResult(Map.of());
+
+    private final Map<String, String> errors;
+
+    private ValidationResult(Map<String, String> errors) {
+        this.errors = errors;
+    }
+
+    /**
+     * 오류가 없는 결과 (공유 인스턴스)
+     */
+    public static ValidationResult valid() {
+        return VALID;
+    }
+
+    /**
+     * @param errors 필드별 오류 메시지 (비어 있으면 유효)
+     */
+    public static ValidationResult of(Map<String, String> errors) {
+        return errors.isEmpty() ? VALID : new ValidationResult(Map.copyOf(errors));
+    }
+
+    /**
+     * 오류가 하나인 결과 (검증기가 미리 만들어 재사용)
+     */
+    static ValidationResult single(String field, String message) {
+        return new ValidationResult(Map.of(field, message));
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * 필드별 오류 메시지 (변경 불가, 유효하면 빈 맵)
+     */
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,105 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.*;
+import com.opportunitycost.model.ComparisonOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시급 구간 분석 서비스
+ *
+ * 선택지별 총 비용 TC = C + W/60 × T 를 시급 W에 대한 직선으로 보고,
+ * 하한 포락선({@link CostEnvelope})으로 시급 범위 안의 손익분기점과
+ * 구간별 최저 비용 선택지를 해석적으로 구합니다.
+ * 시급을 바꿔 가며 계산 API를 반복 호출하지 않아도 됩니다.
+ */
+@Service
+public class WageSweepService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WageSweepService.class);
+
+    /**
+     * 시급 구간 분석을 수행합니다.
+     *
+     * @param request 시급 구간 분석 요청 정보
+     * @return 손익분기점, 구간별 최저 비용 선택지, 샘플 비용 곡선
+     */
+    public WageSweepResponse sweep(WageSweepRequest request) {
+        long minWage = request.getMinWage();
+        long maxWage = request.getMaxWage();
+        if (minWage > maxWage) {
+            throw new IllegalArgumentException("최소 시급은 최대 시급 이하여야 합니다.");
+        }
+
+        List<ComparisonOption> options = request.getOptions();
+        int[] timeMinutes = new int[options.size()];
+        long[] directCosts = new long[options.size()];
+        for (int i = 0; i < timeMinutes.length; i++) {
+            timeMinutes[i] = options.get(i).getTimeMinutes();
+            directCosts[i] = options.get(i).getDirectCost();
+        }
+        CostEnvelope envelope = CostEnvelope.of(timeMinutes, directCosts);
+
+        // 최소 시급이 속한 구간부터 최대 시급을 넘을 때까지 포락선을 따라감
+        List<WageSegment> segments = new ArrayList<>();
+        List<BreakEvenPoint> breakEvenPoints = new ArrayList<>();
+        int segment = envelope.segmentAt(minWage);
+        long from = minWage;
+        while (true) {
+            boolean last = segment + 1 >= envelope.segmentCount() || envelope.thresholdAfter(segment) > maxWage;
+            long to = last ? maxWage : envelope.thresholdAfter(segment) - 1;
+            int option = envelope.optionOf(segment);
+            // 손익분기 시급이 같은 정수 구간에 몰리면 정수 시급에서는 최저가 되지 않는 선택지가 있음
+            if (to >= from) {
+                segments.add(new WageSegment(from, to, option + 1, OpportunityCostService.optionName(option)));
+            }
+            if (last) {
+                break;
+            }
+            breakEvenPoints.add(new BreakEvenPoint(
+                envelope.breakEvenAfter(segment), option + 1, envelope.optionOf(segment + 1) + 1));
+            from = envelope.thresholdAfter(segment);
+            segment++;
+        }
+
+        int samples = request.getSamples() != null ? request.getSamples() : 0;
+        List<CostCurvePoint> curve = sampleCurve(timeMinutes, directCosts, minWage, maxWage, samples);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("시급 구간 분석 완료 - 선택지 개수: {}, 시급 범위: {}~{}원/시간, 손익분기점: {}개",
+                timeMinutes.length, minWage, maxWage, breakEvenPoints.size());
+        }
+
+        return new WageSweepResponse(breakEvenPoints, segments, curve);
+    }
+
+    /**
+     * 시급 범위를 고르게 나눈 샘플 시급에서 선택지별 총 비용을 계산합니다.
+     * 계산 API와 같은 정수 연산(시간 비용 내림)을 사용합니다.
+     */
+    private List<CostCurvePoint> sampleCurve(int[] timeMinutes, long[] directCosts,
+                                             long minWage, long maxWage, int samples) {
+        List<CostCurvePoint> curve = new ArrayList<>(samples);
+        for (int s = 0; s < samples; s++) {
+            long wage = samples == 1 ? minWage : minWage + (maxWage - minWage) * s / (samples - 1);
+            long[] totals = new long[timeMinutes.length];
+            long min = Long.MAX_VALUE;
+            Integer cheapest = null;
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] = directCosts[i] + OpportunityCostService.calculateTimeCost(wage, timeMinutes[i]);
+                if (totals[i] < min) {
+                    min = totals[i];
+                    cheapest = i + 1;
+                } else if (totals[i] == min) {
+                    cheapest = null;
+                }
+            }
+            curve.add(new CostCurvePoint(wage, totals, cheapest));
+        }
+        return curve;
+    }
+}
@@ -0,0 +1,31 @@
+-- 저장된 시급 프로필
+CREATE TABLE IF NOT EXISTS wage_profile (
+    id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name        VARCHAR(100),
+    hourly_wage BIGINT       NOT NULL,
+    created_at  TIMESTAMP    DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+-- 저장된 선택지 묶음
+CREATE TABLE IF NOT EXISTS option_set (
+    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    option_count INT          NOT NULL,
+    created_at   TIMESTAMP    DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+-- 저장된 선택지 묶음 수 (단일 행, 등록 수 제한을 한 문장으로 검사/증가하기 위한 카운터)
+CREATE TABLE IF NOT EXISTS option_set_count (
+    id     INT    PRIMARY KEY,
+    stored BIGINT NOT NULL
+);
+MERGE INTO option_set_count (id, stored) KEY (id) VALUES (1, (SELECT COUNT(*) FROM option_set));
+
+-- 선택지 묶음의 선택지 (position: 입력 순서, 0부터 시작)
+CREATE TABLE IF NOT EXISTS option_set_option (
+    option_set_id BIGINT  NOT NULL,
+    position      INT     NOT NULL,
+    time_minutes  INT     NOT NULL,
+    direct_cost   BIGINT  NOT NULL,
+    PRIMARY KEY (option_set_id, position),
+    FOREIGN KEY (option_set_id) REFERENCES option_set (id) ON DELETE CASCADE
+);
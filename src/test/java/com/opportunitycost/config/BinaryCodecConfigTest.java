@@ -0,0 +1,53 @@
+package com.opportunitycost.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CBOR 응답 인코더 테스트
+ */
+class BinaryCodecConfigTest {
+
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+    private final BinaryCodecConfig.SingleValueCborEncoder encoder =
+        new BinaryCodecConfig.SingleValueCborEncoder(cborMapper);
+
+    private byte[] encode(Publisher<?> input) {
+        DataBuffer buffer = DataBufferUtils.join(encoder.encode(input, DefaultDataBufferFactory.sharedInstance,
+            ResolvableType.forClass(String.class), MediaType.APPLICATION_CBOR, Collections.emptyMap())).block();
+        assertNotNull(buffer);
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("단건(Mono)은 값 하나로 인코딩")
+    void testEncode_Mono() throws Exception {
+        assertEquals("A", cborMapper.readValue(encode(Mono.just("A")), String.class));
+    }
+
+    @Test
+    @DisplayName("여러 값(Flux)은 첫 값만 쓰지 않고 모두 CBOR 배열로 인코딩")
+    void testEncode_Flux() throws Exception {
+        List<String> values = cborMapper.readValue(encode(Flux.just("A", "B", "C")), new TypeReference<>() { });
+        assertEquals(List.of("A", "B", "C"), values);
+    }
+}
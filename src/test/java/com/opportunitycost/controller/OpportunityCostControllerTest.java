@@ -1,12 +1,14 @@
 package com.opportunitycost.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.opportunitycost.dto.CalculationRequest;
 import com.opportunitycost.dto.CalculationResponse;
 import com.opportunitycost.model.ComparisonOption;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
@@ -14,7 +16,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -23,6 +30,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 @SpringBootTest
 @AutoConfigureWebMvc
+@AutoConfigureObservability
 class OpportunityCostControllerTest {
 
     @Autowired
@@ -64,6 +72,174 @@ class OpportunityCostControllerTest {
         assertEquals(12300L, result.getOptionB().getTotalCost());
     }
 
+    @Test
+    @DisplayName("GET 계산 - 입력값 기반 ETag/Cache-Control, If-None-Match 일치 시 304")
+    void testCalculateGet_ETag() throws Exception {
+        String eTag = mockMvc.perform(get("/api/calculate")
+                .param("hourlyWage", "15000")
+                .param("optionA.timeMinutes", "10")
+                .param("optionA.directCost", "3000")
+                .param("optionB.timeMinutes", "40")
+                .param("optionB.directCost", "2300"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("max-age=3600")))
+                .andExpect(header().string("Cache-Control", containsString("public")))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andExpect(jsonPath("$.recommendation").value("A"))
+                .andExpect(jsonPath("$.optionA.totalCost").value(5500))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        assertNotNull(eTag);
+
+        // 같은 입력의 POST 응답도 같은 ETag
+        mockMvc.perform(post("/api/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"hourlyWage": 15000,
+                     "optionA": {"timeMinutes": 10, "directCost": 3000},
+                     "optionB": {"timeMinutes": 40, "directCost": 2300}}
+                    """))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", eTag));
+
+        mockMvc.perform(get("/api/calculate")
+                .param("hourlyWage", "15000")
+                .param("optionA.timeMinutes", "10")
+                .param("optionA.directCost", "3000")
+                .param("optionB.timeMinutes", "40")
+                .param("optionB.directCost", "2300")
+                .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+
+        // 간결 응답은 다른 ETag
+        mockMvc.perform(get("/api/calculate")
+                .param("compact", "true")
+                .param("hourlyWage", "15000")
+                .param("optionA.timeMinutes", "10")
+                .param("optionA.directCost", "3000")
+                .param("optionB.timeMinutes", "40")
+                .param("optionB.directCost", "2300")
+                .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)));
+    }
+
+    @Test
+    @DisplayName("GET 계산 - JSON 응답의 ETag로 CBOR을 요청하면 304가 아닌 200과 다른 ETag")
+    void testCalculateGet_ETagPerMediaType() throws Exception {
+        String jsonETag = mockMvc.perform(get("/api/calculate")
+                .param("hourlyWage", "15000")
+                .param("optionA.timeMinutes", "10")
+                .param("optionA.directCost", "3000")
+                .param("optionB.timeMinutes", "40")
+                .param("optionB.directCost", "2300")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        String cborETag = mockMvc.perform(get("/api/calculate")
+                .param("hourlyWage", "15000")
+                .param("optionA.timeMinutes", "10")
+                .param("optionA.directCost", "3000")
+                .param("optionB.timeMinutes", "40")
+                .param("optionB.directCost", "2300")
+                .accept(MediaType.APPLICATION_CBOR)
+                .header("If-None-Match", jsonETag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("ETag", not(jsonETag)))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // CBOR ETag는 CBOR 요청에만 일치
+        mockMvc.perform(get("/api/calculate")
+                .param("hourlyWage", "15000")
+                .param("optionA.timeMinutes", "10")
+                .param("optionA.directCost", "3000")
+                .param("optionB.timeMinutes", "40")
+                .param("optionB.directCost", "2300")
+                .accept(MediaType.APPLICATION_CBOR)
+                .header("If-None-Match", cborETag))
+                .andExpect(status().isNotModified());
+
+        // 품질 값으로 고른 응답 형식과 ETag 형식이 일치
+        mockMvc.perform(post("/api/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Accept", "application/json;q=0.5, application/cbor")
+                .content("""
+                    {"hourlyWage": 15000,
+                     "optionA": {"timeMinutes": 10, "directCost": 3000},
+                     "optionB": {"timeMinutes": 40, "directCost": 2300}}
+                    """))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("ETag", cborETag));
+        mockMvc.perform(post("/api/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Accept", "application/cbor;q=0.5, */*")
+                .content("""
+                    {"hourlyWage": 15000,
+                     "optionA": {"timeMinutes": 10, "directCost": 3000},
+                     "optionB": {"timeMinutes": 40, "directCost": 2300}}
+                    """))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", jsonETag));
+    }
+
+    @Test
+    @DisplayName("GET 계산 - 검증 오류는 POST와 같은 필드별 형식")
+    void testCalculateGet_ValidationErrors() throws Exception {
+        mockMvc.perform(get("/api/calculate")
+                .param("hourlyWage", "0")
+                .param("optionA.timeMinutes", "abc")
+                .param("optionA.directCost", "3000")
+                .param("optionB.directCost", "2300"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.hourlyWage").value("시급은 1원 이상이어야 합니다."))
+                .andExpect(jsonPath("$['optionA.timeMinutes']").value("숫자 형식이 올바르지 않습니다."))
+                .andExpect(jsonPath("$['optionB.timeMinutes']").value("소요 시간은 필수 입력 항목입니다."));
+    }
+
+    @Test
+    @DisplayName("CBOR 요청/응답 - JSON과 같은 DTO, 같은 결과")
+    void testCalculate_Cbor() throws Exception {
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        CalculationRequest request = new CalculationRequest();
+        request.setHourlyWage(15000L);
+        request.setOptionA(new ComparisonOption(10, 3000L));
+        request.setOptionB(new ComparisonOption(40, 2300L));
+
+        byte[] body = mockMvc.perform(post("/api/calculate")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        CalculationResponse result = cborMapper.readValue(body, CalculationResponse.class);
+        assertEquals("A", result.getRecommendation());
+        assertEquals(5500L, result.getOptionA().getTotalCost());
+        assertEquals(12300L, result.getOptionB().getTotalCost());
+
+        // 검증도 JSON과 같음
+        request.setHourlyWage(0L);
+        mockMvc.perform(post("/api/calculate")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.hourlyWage").value("시급은 1원 이상이어야 합니다."));
+    }
+
     @Test
     @DisplayName("시급이 null인 경우 검증 오류 테스트")
     void testCalculate_InvalidHourlyWage() throws Exception {
@@ -228,4 +404,381 @@ class OpportunityCostControllerTest {
             result.getOptionB().getDirectCost() + result.getOptionB().getTimeCost()
         );
     }
+
+    @Test
+    @DisplayName("일괄 계산 - 공통 시급 적용 및 항목별 검증 오류")
+    void testCalculateBatch_PerItemErrors() throws Exception {
+        String body = """
+            {
+              "hourlyWage": 15000,
+              "requests": [
+                {"optionA": {"timeMinutes": 10, "directCost": 3000}, "optionB": {"timeMinutes": 40, "directCost": 2300}},
+                {"hourlyWage": 15000, "optionA": {"timeMinutes": -10, "directCost": 3000}, "optionB": {"timeMinutes": 40, "directCost": 2300}},
+                {"hourlyWage": 20000, "optionA": {"timeMinutes": 60, "directCost": 6000}, "optionB": {"timeMinutes": 10, "directCost": 14000}}
+              ]
+            }
+            """;
+
+        mockMvc.perform(post("/api/calculate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.successCount").value(2))
+                .andExpect(jsonPath("$.failureCount").value(1))
+                .andExpect(jsonPath("$.results[0].index").value(0))
+                .andExpect(jsonPath("$.results[0].result.recommendation").value("A"))
+                .andExpect(jsonPath("$.results[0].result.optionA.totalCost").value(5500))
+                .andExpect(jsonPath("$.results[1].errors['optionA.timeMinutes']").exists())
+                .andExpect(jsonPath("$.results[1].result").doesNotExist())
+                .andExpect(jsonPath("$.results[2].result.recommendation").value("B"));
+    }
+
+    @Test
+    @DisplayName("일괄 계산 - 요청 목록 누락 시 검증 오류")
+    void testCalculateBatch_MissingRequests() throws Exception {
+        mockMvc.perform(post("/api/calculate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"hourlyWage\": 15000}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.requests").exists());
+    }
+
+    @Test
+    @DisplayName("NDJSON 스트리밍 계산 - 줄 단위 결과 및 오류")
+    void testCalculateStream_LinePerResult() throws Exception {
+        String body = """
+            {"hourlyWage": 15000, "optionA": {"timeMinutes": 10, "directCost": 3000}, "optionB": {"timeMinutes": 40, "directCost": 2300}}
+            { invalid json }
+
+            {"hourlyWage": 0, "optionA": {"timeMinutes": 10, "directCost": 3000}, "optionB": {"timeMinutes": 40, "directCost": 2300}}
+            {"hourlyWage": 20000, "optionA": {"timeMinutes": 60, "directCost": 6000}, "optionB": {"timeMinutes": 10, "directCost": 14000}}
+            """;
+
+        String response = mockMvc.perform(post("/api/calculate/stream")
+                .contentType("application/x-ndjson")
+                .accept("application/x-ndjson")
+                .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = response.split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("A", objectMapper.readValue(lines[0], CalculationResponse.class).getRecommendation());
+        assertEquals(1, objectMapper.readTree(lines[1]).get("index").asInt());
+        assertTrue(objectMapper.readTree(lines[1]).get("errors").has("error"));
+        assertTrue(objectMapper.readTree(lines[2]).get("errors").has("hourlyWage"));
+        assertEquals("B", objectMapper.readValue(lines[3], CalculationResponse.class).getRecommendation());
+    }
+
+    @Test
+    @DisplayName("NDJSON 스트리밍 계산 - 길이 상한을 넘는 줄은 오류로 기록하고 다음 줄 계속 처리")
+    void testCalculateStream_LineTooLong() throws Exception {
+        String valid = "{\"hourlyWage\": 15000, \"optionA\": {\"timeMinutes\": 10, \"directCost\": 3000}, "
+            + "\"optionB\": {\"timeMinutes\": 40, \"directCost\": 2300}}";
+        String tooLong = "{\"hourlyWage\": 15000, \"padding\": \"" + "x".repeat(100_000) + "\"}";
+        String body = valid + "\r\n" + tooLong + "\r\n" + valid;
+
+        String response = mockMvc.perform(post("/api/calculate/stream")
+                .contentType("application/x-ndjson")
+                .accept("application/x-ndjson")
+                .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = response.split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("A", objectMapper.readValue(lines[0], CalculationResponse.class).getRecommendation());
+        assertEquals(1, objectMapper.readTree(lines[1]).get("index").asInt());
+        assertTrue(objectMapper.readTree(lines[1]).get("errors").has("request"));
+        assertEquals("A", objectMapper.readValue(lines[2], CalculationResponse.class).getRecommendation());
+    }
+
+    @Test
+    @DisplayName("간결 응답 모드 - 계산식 없이 짧은 필드명으로 응답")
+    void testCalculate_CompactResponse() throws Exception {
+        CalculationRequest request = new CalculationRequest();
+        request.setHourlyWage(15000L);
+        request.setOptionA(new ComparisonOption(10, 3000L));
+        request.setOptionB(new ComparisonOption(40, 2300L));
+
+        mockMvc.perform(post("/api/calculate")
+                .param("compact", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.a[2]").value(5500))
+                .andExpect(jsonPath("$.b[1]").value(10000))
+                .andExpect(jsonPath("$.r").value("A"))
+                .andExpect(jsonPath("$.d").value(6800))
+                .andExpect(jsonPath("$.optionA").doesNotExist())
+                .andExpect(jsonPath("$.formula").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("다안 비교 간결 응답 모드")
+    void testCalculateMulti_CompactResponse() throws Exception {
+        String body = """
+            {"hourlyWage": 15000, "options": [
+              {"timeMinutes": 40, "directCost": 2300},
+              {"timeMinutes": 10, "directCost": 3000},
+              {"timeMinutes": 0, "directCost": 8000}
+            ]}
+            """;
+
+        mockMvc.perform(post("/api/calculate/multi")
+                .param("compact", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.res[0][0]").value(2))
+                .andExpect(jsonPath("$.res[0][3]").value(5500))
+                .andExpect(jsonPath("$.r").value(2))
+                .andExpect(jsonPath("$.min").value(5500))
+                .andExpect(jsonPath("$.max").value(12300))
+                .andExpect(jsonPath("$.formula").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("다안 비교 순위 조건 쿼리 파라미터")
+    void testCalculateMulti_RankingFilter() throws Exception {
+        String body = """
+            {"hourlyWage": 15000, "options": [
+              {"timeMinutes": 10, "directCost": 3000},
+              {"timeMinutes": 40, "directCost": 2300},
+              {"timeMinutes": 0, "directCost": 8000}
+            ]}
+            """;
+
+        mockMvc.perform(post("/api/calculate/multi")
+                .param("topK", "2")
+                .param("maxTotalCost", "10000")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(2))
+                .andExpect(jsonPath("$.results[1].optionNumber").value(3))
+                .andExpect(jsonPath("$.maxTotalCost").value(12300));
+
+        mockMvc.perform(post("/api/calculate/multi")
+                .param("topK", "0")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("topK는 1 이상이어야 합니다."));
+    }
+
+    @Test
+    @DisplayName("시급 구간 분석 - 손익분기 시급과 구간별 추천")
+    void testCalculateSweep() throws Exception {
+        String body = """
+            {"minWage": 1000, "maxWage": 20000, "samples": 2, "options": [
+              {"timeMinutes": 10, "directCost": 3000},
+              {"timeMinutes": 40, "directCost": 2300}
+            ]}
+            """;
+
+        mockMvc.perform(post("/api/calculate/sweep")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.breakEvenPoints[0].wage").value(1400.0))
+                .andExpect(jsonPath("$.segments[1].fromWage").value(1400))
+                .andExpect(jsonPath("$.segments[1].cheapestOption").value(1))
+                .andExpect(jsonPath("$.curve.length()").value(2))
+                .andExpect(jsonPath("$.curve[1].totalCosts[1]").value(15_633));
+    }
+
+    @Test
+    @DisplayName("선택지 묶음 등록 후 ID로 최저 비용 조회, 없는 ID는 404")
+    void testOptionSets() throws Exception {
+        String body = """
+            {"options": [
+              {"timeMinutes": 10, "directCost": 3000},
+              {"timeMinutes": 40, "directCost": 2300}
+            ]}
+            """;
+
+        String created = mockMvc.perform(post("/api/option-sets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.candidateCount").value(2))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        mockMvc.perform(get("/api/option-sets/" + id + "/cheapest").param("hourlyWage", "15000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cheapestOption").value(1))
+                .andExpect(jsonPath("$.breakdown.totalCost").value(5500));
+
+        mockMvc.perform(get("/api/option-sets/999999/cheapest").param("hourlyWage", "15000"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("선택지 묶음을 찾을 수 없습니다."));
+    }
+
+    @Test
+    @DisplayName("시급 프로필 저장 후 프로필 ID로 선택지 묶음 순위/최저 비용 조회")
+    void testProfilesWithOptionSets() throws Exception {
+        String profile = mockMvc.perform(post("/api/profiles")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"평일\", \"hourlyWage\": 15000}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.hourlyWage").value(15000))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long profileId = objectMapper.readTree(profile).get("id").asLong();
+
+        String created = mockMvc.perform(post("/api/option-sets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"options": [
+                      {"timeMinutes": 10, "directCost": 3000},
+                      {"timeMinutes": 40, "directCost": 2300},
+                      {"timeMinutes": 0, "directCost": 8000}
+                    ]}
+                    """))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        mockMvc.perform(get("/api/option-sets/" + id + "/cheapest").param("profileId", String.valueOf(profileId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hourlyWage").value(15000))
+                .andExpect(jsonPath("$.cheapestOption").value(1));
+
+        mockMvc.perform(get("/api/option-sets/" + id + "/ranking")
+                .param("profileId", String.valueOf(profileId))
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalOptions").value(3))
+                .andExpect(jsonPath("$.results.length()").value(2))
+                .andExpect(jsonPath("$.results[0].optionNumber").value(1))
+                .andExpect(jsonPath("$.minTotalCost").value(5500));
+
+        // 시급과 프로필 ID를 함께 보내면 400
+        mockMvc.perform(get("/api/option-sets/" + id + "/cheapest")
+                .param("profileId", String.valueOf(profileId))
+                .param("hourlyWage", "15000"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(delete("/api/profiles/" + profileId))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/profiles/" + profileId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("시급 프로필을 찾을 수 없습니다."));
+    }
+
+    @Test
+    @DisplayName("Prometheus 엔드포인트에 캐시/검증 실패 메트릭 노출")
+    void testPrometheusEndpoint_ExposesCalculationMetrics() throws Exception {
+        CalculationRequest request = new CalculationRequest();
+        request.setHourlyWage(15000L);
+        request.setOptionA(new ComparisonOption(-10, 3000L));
+        request.setOptionB(new ComparisonOption(40, 2300L));
+        mockMvc.perform(post("/api/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        request.setOptionA(new ComparisonOption(10, 3000L));
+        mockMvc.perform(post("/api/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("cache_gets_total{cache=\"calculation\"")))
+                .andExpect(content().string(containsString("cache_size{cache=\"calculation-multi\"")))
+                .andExpect(content().string(containsString("cache_evictions_total{cache=\"calculation\"")))
+                .andExpect(content().string(containsString(
+                    "opportunitycost_validation_failures_total{field=\"optionA.timeMinutes\"")));
+    }
+
+    @Test
+    @DisplayName("일괄 계산 - 분할 병렬 처리 시에도 입력 순서 유지")
+    void testCalculateBatch_LargeBatchKeepsOrder() throws Exception {
+        StringBuilder body = new StringBuilder("{\"hourlyWage\": 15000, \"requests\": [");
+        for (int i = 0; i < 1_000; i++) {
+            body.append(i == 0 ? "" : ",")
+                .append("{\"optionA\": {\"timeMinutes\": ").append(i % 600).append(", \"directCost\": 3000},")
+                .append(" \"optionB\": {\"timeMinutes\": 40, \"directCost\": 2300}}");
+        }
+        body.append("]}");
+
+        mockMvc.perform(post("/api/calculate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.successCount").value(1_000))
+                .andExpect(jsonPath("$.results[999].index").value(999))
+                // 999 % 600 = 399분 → 시간 비용 99,750원
+                .andExpect(jsonPath("$.results[999].result.optionA.timeCost").value(99_750))
+                .andExpect(jsonPath("$.results[300].result.optionA.timeCost").value(75_000));
+    }
+
+    @Test
+    @DisplayName("대량 다안 비교 - 페이지 단위 순위와 전체 통계")
+    void testCalculateLarge_Paging() throws Exception {
+        StringBuilder body = new StringBuilder("{\"hourlyWage\": 6000, \"options\": [");
+        for (int i = 0; i < 10_000; i++) {
+            // 선택지 번호가 클수록 직접 비용이 낮음 → 마지막 선택지가 최저 비용
+            body.append(i == 0 ? "" : ",")
+                .append("{\"timeMinutes\": 10, \"directCost\": ").append(10_000 - i).append("}");
+        }
+        body.append("]}");
+
+        mockMvc.perform(post("/api/calculate/multi/large?page=1&size=5")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalOptions").value(10_000))
+                .andExpect(jsonPath("$.results.length()").value(5))
+                .andExpect(jsonPath("$.results[0].optionNumber").value(9_995))
+                .andExpect(jsonPath("$.results[0].optionName").value("선택지 9995"))
+                .andExpect(jsonPath("$.recommendedOption").value(10_000))
+                .andExpect(jsonPath("$.minTotalCost").value(1_001))
+                .andExpect(jsonPath("$.maxTotalCost").value(11_000));
+    }
+
+    @Test
+    @DisplayName("대량 다안 비교 - 잘못된 페이지 크기는 400")
+    void testCalculateLarge_InvalidPageSize() throws Exception {
+        String body = "{\"hourlyWage\": 6000, \"options\": [{\"timeMinutes\": 10, \"directCost\": 1000},"
+            + " {\"timeMinutes\": 20, \"directCost\": 500}]}";
+
+        mockMvc.perform(post("/api/calculate/multi/large?size=0")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("잘못된 입력값입니다."));
+    }
+
+    @Test
+    @DisplayName("선택지 목록의 null 항목은 500이 아닌 400 필드 오류")
+    void testNullOptionItem_BadRequest() throws Exception {
+        String options = "[{\"timeMinutes\": 10, \"directCost\": 1000}, null, {\"timeMinutes\": 20, \"directCost\": 500}]";
+        String[][] cases = {
+            {"/api/calculate/multi/large", "{\"hourlyWage\": 6000, \"options\": " + options + "}"},
+            {"/api/calculate/multi", "{\"hourlyWage\": 6000, \"options\": " + options + "}"},
+            {"/api/calculate/sweep", "{\"minHourlyWage\": 1000, \"maxHourlyWage\": 50000, \"options\": " + options + "}"},
+            {"/api/option-sets", "{\"options\": " + options + "}"},
+        };
+        for (String[] c : cases) {
+            mockMvc.perform(post(c[0])
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(c[1]))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$['options[1]']").value("선택지 항목은 비어 있을 수 없습니다."));
+        }
+    }
 }
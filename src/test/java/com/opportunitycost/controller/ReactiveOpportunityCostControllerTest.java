@@ -0,0 +1,268 @@
+package com.opportunitycost.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.opportunitycost.dto.CalculationRequest;
+import com.opportunitycost.dto.CalculationResponse;
+import com.opportunitycost.dto.OptionSetResponse;
+import com.opportunitycost.model.ComparisonOption;
+import com.opportunitycost.model.WageProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 기회비용 계산 컨트롤러 통합 테스트 (리액티브 모드)
+ */
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+class ReactiveOpportunityCostControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("리액티브 모드 - 유효한 요청에 대한 성공 응답 테스트")
+    void testCalculate_Success() {
+        CalculationRequest request = new CalculationRequest();
+        request.setHourlyWage(15000L);
+        request.setOptionA(new ComparisonOption(10, 3000L));
+        request.setOptionB(new ComparisonOption(40, 2300L));
+
+        CalculationResponse result = webTestClient.post().uri("/api/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CalculationResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(result);
+        assertEquals("A", result.getRecommendation());
+        assertEquals(5500L, result.getOptionA().getTotalCost());
+        assertEquals(12300L, result.getOptionB().getTotalCost());
+    }
+
+    @Test
+    @DisplayName("리액티브 모드 - 검증 오류는 서블릿 모드와 같은 형식으로 응답")
+    void testCalculate_ValidationError() {
+        CalculationRequest request = new CalculationRequest();
+        request.setHourlyWage(null);
+        request.setOptionA(new ComparisonOption(10, 3000L));
+        request.setOptionB(new ComparisonOption(40, 2300L));
+
+        webTestClient.post().uri("/api/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.hourlyWage").exists();
+    }
+
+    @Test
+    @DisplayName("리액티브 모드 - 잘못된 JSON 형식 처리 테스트")
+    void testCalculate_InvalidJson() {
+        webTestClient.post().uri("/api/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{invalid json}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("요청 형식이 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("리액티브 모드 - 다안 비교 간결 응답 테스트")
+    void testCalculateMulti_Compact() {
+        String body = "{\"hourlyWage\":15000,\"options\":[{\"timeMinutes\":10,\"directCost\":3000},"
+                + "{\"timeMinutes\":40,\"directCost\":2300},{\"timeMinutes\":0,\"directCost\":8000}]}";
+
+        webTestClient.post().uri("/api/calculate/multi?compact=true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.res.length()").isEqualTo(3)
+                .jsonPath("$.r").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리액티브 모드 - NDJSON 스트리밍 계산 테스트")
+    void testCalculateStream() {
+        String body = "{\"hourlyWage\":15000,\"optionA\":{\"timeMinutes\":10,\"directCost\":3000},"
+                + "\"optionB\":{\"timeMinutes\":40,\"directCost\":2300}}\n"
+                + "\n"
+                + "{\"hourlyWage\":0,\"optionA\":{\"timeMinutes\":10,\"directCost\":3000},"
+                + "\"optionB\":{\"timeMinutes\":40,\"directCost\":2300}}\n";
+
+        String response = webTestClient.post().uri("/api/calculate/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(response);
+        String[] lines = response.trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"recommendation\":\"A\""));
+        assertTrue(lines[1].contains("\"index\":1"));
+        assertTrue(lines[1].contains("\"hourlyWage\""));
+    }
+
+    @Test
+    @DisplayName("리액티브 모드 - NDJSON 스트리밍 계산 길이 상한 초과 줄은 오류로 기록")
+    void testCalculateStream_LineTooLong() {
+        String body = "{\"hourlyWage\":15000,\"padding\":\"" + "x".repeat(20_000) + "\"}\n"
+                + "{\"hourlyWage\":15000,\"optionA\":{\"timeMinutes\":10,\"directCost\":3000},"
+                + "\"optionB\":{\"timeMinutes\":40,\"directCost\":2300}}\n";
+
+        String response = webTestClient.post().uri("/api/calculate/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(response);
+        String[] lines = response.trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"index\":0"));
+        assertTrue(lines[0].contains("\"request\""));
+        assertTrue(lines[1].contains("\"recommendation\":\"A\""));
+    }
+
+    @Test
+    @DisplayName("리액티브 모드 - 시급 프로필 저장 후 프로필 ID로 최저 비용 조회")
+    void testProfileWithOptionSet() {
+        WageProfile profile = webTestClient.post().uri("/api/profiles")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"hourlyWage\": 15000}")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(WageProfile.class)
+                .returnResult()
+                .getResponseBody();
+        OptionSetResponse optionSet = webTestClient.post().uri("/api/option-sets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"options\": [{\"timeMinutes\": 10, \"directCost\": 3000}, {\"timeMinutes\": 40, \"directCost\": 2300}]}")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(OptionSetResponse.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(profile);
+        assertNotNull(optionSet);
+
+        webTestClient.get().uri("/api/option-sets/" + optionSet.getId() + "/cheapest?profileId=" + profile.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.cheapestOption").isEqualTo(1)
+                .jsonPath("$.breakdown.totalCost").isEqualTo(5500);
+
+        webTestClient.delete().uri("/api/profiles/" + profile.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.get().uri("/api/profiles/" + profile.getId())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("리액티브 모드 - GET 계산의 ETag와 304 응답")
+    void testCalculateGet_ETag() {
+        String uri = "/api/calculate?hourlyWage=15000&optionA.timeMinutes=10&optionA.directCost=3000"
+            + "&optionB.timeMinutes=40&optionB.directCost=2300";
+        String eTag = webTestClient.get().uri(uri)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePublic())
+                .expectBody()
+                .jsonPath("$.optionA.totalCost").isEqualTo(5500)
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+        assertNotNull(eTag);
+
+        webTestClient.get().uri(uri)
+                .header("If-None-Match", eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", eTag);
+    }
+
+    @Test
+    @DisplayName("리액티브 모드 - JSON 응답의 ETag로 CBOR을 요청하면 304가 아닌 200")
+    void testCalculateGet_ETagPerMediaType() {
+        String uri = "/api/calculate?hourlyWage=15000&optionA.timeMinutes=10&optionA.directCost=3000"
+            + "&optionB.timeMinutes=40&optionB.directCost=2300";
+        String jsonETag = webTestClient.get().uri(uri)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        String cborETag = webTestClient.get().uri(uri)
+                .accept(MediaType.APPLICATION_CBOR)
+                .header("If-None-Match", jsonETag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .returnResult(byte[].class)
+                .getResponseHeaders()
+                .getETag();
+        assertNotEquals(jsonETag, cborETag);
+
+        webTestClient.get().uri(uri)
+                .accept(MediaType.APPLICATION_CBOR)
+                .header("If-None-Match", cborETag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    @DisplayName("리액티브 모드 - CBOR 요청/응답")
+    void testCalculate_Cbor() throws Exception {
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        CalculationRequest request = new CalculationRequest();
+        request.setHourlyWage(15000L);
+        request.setOptionA(new ComparisonOption(10, 3000L));
+        request.setOptionB(new ComparisonOption(40, 2300L));
+
+        byte[] body = webTestClient.post().uri("/api/calculate")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .bodyValue(cborMapper.writeValueAsBytes(request))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        CalculationResponse result = cborMapper.readValue(body, CalculationResponse.class);
+        assertEquals("A", result.getRecommendation());
+        assertEquals(5500L, result.getOptionA().getTotalCost());
+    }
+}
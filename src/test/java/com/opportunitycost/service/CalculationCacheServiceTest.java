@@ -0,0 +1,88 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.CalculationRequest;
+import com.opportunitycost.dto.CalculationResponse;
+import com.opportunitycost.model.ComparisonOption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 계산 결과 캐시 서비스 테스트
+ */
+class CalculationCacheServiceTest {
+
+    private CalculationKey key(long hourlyWage, int timeMinutes) {
+        CalculationRequest request = new CalculationRequest();
+        request.setHourlyWage(hourlyWage);
+        request.setOptionA(new ComparisonOption(timeMinutes, 3000L));
+        request.setOptionB(new ComparisonOption(40, 2300L));
+        return CalculationKey.of(request);
+    }
+
+    @Test
+    @DisplayName("저장한 결과를 동일한 입력으로 조회")
+    void testCache_HitAfterPut() {
+        CalculationCacheService cacheService = new CalculationCacheService();
+        CalculationResponse response = new CalculationResponse();
+
+        cacheService.cacheResult(key(15000L, 10), response);
+
+        assertSame(response, cacheService.getCachedResult(key(15000L, 10)));
+        assertNull(cacheService.getCachedResult(key(15000L, 11)));
+    }
+
+    @Test
+    @DisplayName("동일한 입력은 같은 키로 취급")
+    void testCacheKey_EqualForSameInput() {
+        CalculationKey key1 = key(15000L, 10);
+        CalculationKey key2 = key(15000L, 10);
+
+        assertEquals(key1, key2);
+        assertEquals(key1.hashCode(), key2.hashCode());
+        assertNotEquals(key1, key(15000L, 11));
+        assertNotEquals(key1, new CalculationKey(15000L, 40, 2300L, 10, 3000L));
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘지 않도록 축출")
+    void testCache_BoundedSize() {
+        CalculationCacheService cacheService = new CalculationCacheService(100, Duration.ZERO);
+
+        for (int i = 0; i < 1_000; i++) {
+            cacheService.cacheResult(key(15000L, i), new CalculationResponse());
+        }
+
+        assertTrue(cacheService.getCacheSize() <= 100);
+    }
+
+    @Test
+    @DisplayName("자주 조회되는 항목은 축출되지 않음")
+    void testCache_FrequentEntrySurvives() {
+        CalculationCacheService cacheService = new CalculationCacheService(100, Duration.ZERO);
+        CalculationKey hot = key(20000L, 10);
+        CalculationResponse hotResponse = new CalculationResponse();
+        cacheService.cacheResult(hot, hotResponse);
+
+        for (int i = 0; i < 1_000; i++) {
+            cacheService.getCachedResult(hot);
+            cacheService.cacheResult(key(15000L, i), new CalculationResponse());
+        }
+
+        assertSame(hotResponse, cacheService.getCachedResult(hot));
+    }
+
+    @Test
+    @DisplayName("캐시 초기화")
+    void testCache_Clear() {
+        CalculationCacheService cacheService = new CalculationCacheService();
+        cacheService.cacheResult(key(15000L, 10), new CalculationResponse());
+
+        cacheService.clearCache();
+
+        assertEquals(0, cacheService.getCacheSize());
+    }
+}
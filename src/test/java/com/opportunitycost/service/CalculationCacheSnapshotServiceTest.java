@@ -0,0 +1,123 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.CalculationRequest;
+import com.opportunitycost.dto.MultiComparisonRequest;
+import com.opportunitycost.model.ComparisonOption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 계산 캐시 스냅샷 테스트
+ */
+class CalculationCacheSnapshotServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static CalculationRequest request(long hourlyWage, int timeMinutes) {
+        CalculationRequest request = new CalculationRequest();
+        request.setHourlyWage(hourlyWage);
+        request.setOptionA(new ComparisonOption(timeMinutes, 3000L));
+        request.setOptionB(new ComparisonOption(40, 2300L));
+        return request;
+    }
+
+    private static MultiComparisonRequest multiRequest(long hourlyWage) {
+        MultiComparisonRequest request = new MultiComparisonRequest();
+        request.setHourlyWage(hourlyWage);
+        request.setOptions(List.of(
+            new ComparisonOption(10, 3000L),
+            new ComparisonOption(40, 2300L),
+            new ComparisonOption(0, 8000L)
+        ));
+        return request;
+    }
+
+    private CalculationCacheSnapshotService snapshot(CalculationCacheService cacheService, int maxEntries) {
+        return new CalculationCacheSnapshotService(cacheService, new OpportunityCostService(cacheService),
+            new CalculationRequestValidator(), true, tempDir.resolve("cache.snapshot").toString(), maxEntries);
+    }
+
+    @Test
+    @DisplayName("저장한 스냅샷으로 새 캐시를 채우면 같은 입력이 캐시 히트")
+    void testSaveAndRestore() {
+        CalculationCacheService cacheService = new CalculationCacheService(1_000, Duration.ZERO);
+        OpportunityCostService service = new OpportunityCostService(cacheService);
+        for (int i = 0; i < 50; i++) {
+            service.calculate(request(15_000L, i));
+        }
+        service.calculateMulti(multiRequest(15_000L));
+
+        assertEquals(51, snapshot(cacheService, 1_000).save());
+
+        // 재시작: 빈 캐시에서 복원
+        CalculationCacheService restartedCache = new CalculationCacheService(1_000, Duration.ZERO);
+        assertEquals(51, snapshot(restartedCache, 1_000).restore());
+        assertEquals(50, restartedCache.getCacheSize());
+        assertEquals(1, restartedCache.getMultiCacheSize());
+
+        assertNotNull(restartedCache.getCachedResult(CalculationKey.of(request(15_000L, 10))));
+        assertEquals(
+            service.calculate(request(15_000L, 10)).getOptionA().getTotalCost(),
+            restartedCache.getCachedResult(CalculationKey.of(request(15_000L, 10))).getOptionA().getTotalCost());
+        assertNotNull(restartedCache.getCachedMultiResult(MultiComparisonKey.of(multiRequest(15_000L))));
+    }
+
+    @Test
+    @DisplayName("현재 검증 규칙을 벗어나는 항목은 건너뛰고, 예열은 캐시 히트/미스 통계에 포함되지 않음")
+    void testRestore_SkipsInvalidAndKeepsStatsClean() {
+        // 이전 규칙(더 느슨한 검증)으로 저장된 키: 소요 시간 상한(10,080분) 초과
+        CalculationCacheService cacheService = new CalculationCacheService(1_000, Duration.ZERO);
+        OpportunityCostService service = new OpportunityCostService(cacheService);
+        service.calculate(request(15_000L, 10));
+        service.calculate(request(15_000L, 20_000));
+        assertEquals(2, snapshot(cacheService, 1_000).save());
+
+        CalculationCacheService restartedCache = new CalculationCacheService(1_000, Duration.ZERO);
+        assertEquals(1, snapshot(restartedCache, 1_000).restore());
+        assertEquals(1, restartedCache.getCacheSize());
+        assertEquals(0, restartedCache.getCacheStats().requestCount());
+        assertNull(restartedCache.getCachedResult(CalculationKey.of(request(15_000L, 20_000))));
+    }
+
+    @Test
+    @DisplayName("캐시별 최대 항목 수만큼 자주 쓰이는 키만 저장")
+    void testSave_LimitsEntries() {
+        // 사용 빈도 집계는 캐시가 절반 이상 찼을 때부터 동작하므로 작은 캐시 사용
+        CalculationCacheService cacheService = new CalculationCacheService(60, Duration.ZERO);
+        OpportunityCostService service = new OpportunityCostService(cacheService);
+        for (int i = 0; i < 50; i++) {
+            service.calculate(request(15_000L, i));
+        }
+        // 7번 입력은 반복 조회되어 가장 자주 쓰이는 항목
+        for (int i = 0; i < 20; i++) {
+            service.calculate(request(15_000L, 7));
+        }
+
+        assertEquals(10, snapshot(cacheService, 10).save());
+
+        CalculationCacheService restartedCache = new CalculationCacheService(1_000, Duration.ZERO);
+        assertEquals(10, snapshot(restartedCache, 10).restore());
+        assertNotNull(restartedCache.getCachedResult(CalculationKey.of(request(15_000L, 7))));
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없거나 손상된 경우 빈 캐시로 시작")
+    void testRestore_MissingOrCorrupted() throws IOException {
+        CalculationCacheService cacheService = new CalculationCacheService();
+        assertEquals(0, snapshot(cacheService, 100).restore());
+
+        Files.write(tempDir.resolve("cache.snapshot"), new byte[] {1, 2, 3});
+        assertEquals(0, snapshot(cacheService, 100).restore());
+        assertEquals(0, cacheService.getCacheSize());
+    }
+}
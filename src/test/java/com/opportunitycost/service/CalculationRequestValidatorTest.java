@@ -0,0 +1,180 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.CalculationRequest;
+import com.opportunitycost.dto.MultiComparisonRequest;
+import com.opportunitycost.model.ComparisonOption;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 계산 요청 전용 검증기 테스트
+ * 같은 입력에 대해 DTO 애노테이션(Hibernate Validator)과 같은 필드별 오류를 만드는지 비교합니다.
+ */
+class CalculationRequestValidatorTest {
+
+    // 각 필드의 경계값 (null, 하한 밖/경계, 상한 경계/밖, 극단값)
+    private static final Long[] WAGES = {null, Long.MIN_VALUE, -1L, 0L, 1L, 15_000L, 100_000_000L, 100_000_001L, Long.MAX_VALUE};
+    private static final Integer[] MINUTES = {null, Integer.MIN_VALUE, -1, 0, 1, 10_080, 10_081, Integer.MAX_VALUE};
+    private static final Long[] COSTS = {null, Long.MIN_VALUE, -1L, 0L, 1L, 100_000_000L, 100_000_001L, Long.MAX_VALUE};
+
+    private static ValidatorFactory factory;
+    private static Validator beanValidator;
+
+    private final CalculationRequestValidator validator = new CalculationRequestValidator();
+
+    @BeforeAll
+    static void setUpFactory() {
+        factory = Validation.buildDefaultValidatorFactory();
+        beanValidator = factory.getValidator();
+    }
+
+    @AfterAll
+    static void closeFactory() {
+        factory.close();
+    }
+
+    private static <T> Map<String, String> beanValidationErrors(T request) {
+        Map<String, String> errors = new HashMap<>();
+        // 목록 항목 자체의 오류는 스프링 필드 경로와 같이 options[i]로 비교 (Hibernate 경로: options[i].<list element>)
+        beanValidator.validate(request).forEach(v -> errors.put(
+            v.getPropertyPath().toString().replace(".<list element>", ""), v.getMessage()));
+        return errors;
+    }
+
+    private static CalculationRequest calculation(Long wage, ComparisonOption optionA, ComparisonOption optionB) {
+        CalculationRequest request = new CalculationRequest();
+        request.setHourlyWage(wage);
+        request.setOptionA(optionA);
+        request.setOptionB(optionB);
+        return request;
+    }
+
+    private static MultiComparisonRequest multi(Long wage, List<ComparisonOption> options) {
+        MultiComparisonRequest request = new MultiComparisonRequest();
+        request.setHourlyWage(wage);
+        request.setOptions(options);
+        return request;
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static ComparisonOption randomOption(Random random) {
+        return random.nextInt(10) == 0 ? null : new ComparisonOption(pick(random, MINUTES), pick(random, COSTS));
+    }
+
+    @Test
+    @DisplayName("2안 비교 - 시급과 선택지 필드의 모든 경계값 조합이 Bean Validation과 일치")
+    void testCalculation_BoundaryValues() {
+        int invalid = 0;
+        for (Long wage : WAGES) {
+            for (Integer minutes : MINUTES) {
+                for (Long cost : COSTS) {
+                    CalculationRequest request = calculation(wage,
+                        new ComparisonOption(minutes, cost), new ComparisonOption(10, 3000L));
+                    Map<String, String> expected = beanValidationErrors(request);
+                    assertEquals(expected, validator.validate(request).getErrors(), request.toString());
+                    invalid += expected.isEmpty() ? 0 : 1;
+                }
+            }
+        }
+        // 유효/무효 입력이 모두 비교되었는지 확인
+        assertTrue(invalid > 0 && invalid < WAGES.length * MINUTES.length * COSTS.length);
+    }
+
+    @Test
+    @DisplayName("2안 비교 - 누락된 선택지와 무작위 입력이 Bean Validation과 일치")
+    void testCalculation_Random() {
+        assertEquals(beanValidationErrors(calculation(null, null, null)), validator.validate(calculation(null, null, null)).getErrors());
+
+        Random random = new Random(24L);
+        for (int i = 0; i < 5_000; i++) {
+            CalculationRequest request = calculation(pick(random, WAGES), randomOption(random), randomOption(random));
+            assertEquals(beanValidationErrors(request), validator.validate(request).getErrors(), request.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("다안 비교 - 선택지 개수, null 항목, 무작위 입력이 Bean Validation과 일치")
+    void testMulti_Random() {
+        assertEquals(beanValidationErrors(multi(null, null)), validator.validate(multi(null, null)).getErrors());
+
+        Random random = new Random(240L);
+        for (int i = 0; i < 5_000; i++) {
+            // 개수 제한(3~5개) 밖의 목록도 각 항목을 검증
+            List<ComparisonOption> options = new ArrayList<>();
+            int count = random.nextInt(8);
+            for (int j = 0; j < count; j++) {
+                options.add(randomOption(random));
+            }
+            MultiComparisonRequest request = multi(pick(random, WAGES), options);
+            assertEquals(beanValidationErrors(request), validator.validate(request).getErrors(), request.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("유효한 요청은 오류 없음")
+    void testValidRequests() {
+        assertTrue(validator.validate(calculation(15_000L,
+            new ComparisonOption(10, 3000L), new ComparisonOption(40, 2300L))).isValid());
+        assertTrue(validator.validate(multi(15_000L, Arrays.asList(
+            new ComparisonOption(10, 3000L), new ComparisonOption(40, 2300L), new ComparisonOption(0, 8000L)))).isValid());
+    }
+
+    @Test
+    @DisplayName("쿼리 파라미터 바인딩 - 변환 실패 필드는 변환 오류 메시지, 나머지 필드는 그대로 검증")
+    void testBindingFailure() {
+        CalculationRequest request = calculation(0L, new ComparisonOption(10, 3000L), new ComparisonOption(40, 2300L));
+        BeanPropertyBindingResult bindingErrors = new BeanPropertyBindingResult(request, "calculationRequest");
+        bindingErrors.addError(new FieldError("calculationRequest", "optionA.timeMinutes", "abc",
+            true, new String[] {"typeMismatch"}, null, "Failed to convert"));
+
+        Map<String, String> errors = validator.validate(request, bindingErrors).getErrors();
+        assertEquals(Map.of(
+            "optionA.timeMinutes", CalculationRequestValidator.BINDING_FAILURE_MESSAGE,
+            "hourlyWage", "시급은 1원 이상이어야 합니다."), errors);
+
+        // 바인딩 오류가 없으면 본문 요청과 같은 결과
+        BeanPropertyBindingResult clean = new BeanPropertyBindingResult(request, "calculationRequest");
+        assertSame(validator.validate(request), validator.validate(request, clean));
+    }
+
+    @Test
+    @DisplayName("유효한 요청과 흔한 단일 오류는 미리 만든 결과를 재사용")
+    void testPrecomputedResults() {
+        CalculationRequest valid = calculation(15_000L, new ComparisonOption(10, 3000L), new ComparisonOption(40, 2300L));
+        assertSame(ValidationResult.valid(), validator.validate(valid));
+
+        CalculationRequest invalid = calculation(0L, new ComparisonOption(10, 3000L), new ComparisonOption(40, 2300L));
+        ValidationResult first = validator.validate(invalid);
+        assertFalse(first.isValid());
+        assertSame(first, validator.validate(invalid));
+        assertThrows(UnsupportedOperationException.class, () -> first.getErrors().put("x", "y"));
+
+        // 개수 제한 밖 위치의 오류도 같은 경로와 메시지
+        List<ComparisonOption> options = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            options.add(new ComparisonOption(10, 3000L));
+        }
+        options.set(5, new ComparisonOption(-1, 3000L));
+        MultiComparisonRequest request = multi(15_000L, options);
+        assertEquals(beanValidationErrors(request), validator.validate(request).getErrors());
+    }
+}
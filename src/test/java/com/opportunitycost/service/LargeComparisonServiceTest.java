@@ -0,0 +1,199 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.LargeComparisonRequest;
+import com.opportunitycost.dto.LargeComparisonResponse;
+import com.opportunitycost.dto.OptionResult;
+import com.opportunitycost.model.ComparisonOption;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 대량 다안 비교 서비스 테스트
+ */
+class LargeComparisonServiceTest {
+
+    private LargeComparisonService service;
+
+    @BeforeEach
+    void setUp() {
+        // 구간별 병렬 계산이 실제로 여러 스레드에서 실행되도록 공용 풀 사용
+        service = new LargeComparisonService(
+            new OpportunityCostService(new CalculationCacheService()), ForkJoinPool.commonPool());
+    }
+
+    private static LargeComparisonRequest request(long hourlyWage, List<ComparisonOption> options) {
+        LargeComparisonRequest request = new LargeComparisonRequest();
+        request.setHourlyWage(hourlyWage);
+        request.setOptions(options);
+        return request;
+    }
+
+    private static List<ComparisonOption> randomOptions(int count, long seed) {
+        Random random = new Random(seed);
+        List<ComparisonOption> options = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // 좁은 범위로 생성하여 동일 비용이 자주 나오도록 함
+            options.add(new ComparisonOption(random.nextInt(60), (long) random.nextInt(500)));
+        }
+        return options;
+    }
+
+    /**
+     * 순위 기준 순서: 내림 전 정확한 총 비용(60·C + T·W), 소요 시간, 입력 순서
+     */
+    private static Comparator<Integer> rankingOrder(List<ComparisonOption> options, long hourlyWage) {
+        return Comparator.<Integer>comparingLong(i ->
+                options.get(i).getDirectCost() * 60 + options.get(i).getTimeMinutes() * hourlyWage)
+            .thenComparingInt(i -> options.get(i).getTimeMinutes())
+            .thenComparingInt(i -> i);
+    }
+
+    @Test
+    @DisplayName("병렬 계산 순위가 전체 정렬 결과와 일치 (정확한 비용, 소요 시간, 입력 순서)")
+    void testCompare_MatchesFullSort() {
+        long hourlyWage = 12_345L;
+        List<ComparisonOption> options = randomOptions(3 * LargeComparisonService.CHUNK_SIZE + 17, 42L);
+        long[] totals = options.stream()
+            .mapToLong(o -> o.getDirectCost() + OpportunityCostService.calculateTimeCost(hourlyWage, o.getTimeMinutes()))
+            .toArray();
+        int[] expected = IntStream.range(0, totals.length).boxed()
+            .sorted(rankingOrder(options, hourlyWage))
+            .mapToInt(Integer::intValue)
+            .toArray();
+
+        LargeComparisonResponse page0 = service.compare(request(hourlyWage, options), 0, 500);
+        LargeComparisonResponse page3 = service.compare(request(hourlyWage, options), 3, 500);
+
+        assertEquals(totals.length, page0.getTotalOptions());
+        for (int r = 0; r < 500; r++) {
+            assertEquals(expected[r] + 1, page0.getResults().get(r).getOptionNumber());
+            assertEquals(expected[1500 + r] + 1, page3.getResults().get(r).getOptionNumber());
+        }
+
+        long min = totals[expected[0]];
+        long max = totals[expected[expected.length - 1]];
+        long minCount = IntStream.range(0, totals.length).filter(i -> totals[i] == min).count();
+        assertEquals(min, page0.getMinTotalCost());
+        assertEquals(max, page0.getMaxTotalCost());
+        assertEquals(max - min, page0.getMaxDifference());
+        assertEquals(minCount, page0.getMinCostOptionCount().longValue());
+    }
+
+    @Test
+    @DisplayName("최소 비용이 여러 구간에 걸쳐 동일하면 추천 없음")
+    void testCompare_TiesAcrossChunks() {
+        List<ComparisonOption> options = new ArrayList<>();
+        for (int i = 0; i < LargeComparisonService.CHUNK_SIZE * 2; i++) {
+            options.add(new ComparisonOption(10, 5000L));
+        }
+        options.set(1, new ComparisonOption(0, 1000L));
+        options.set(LargeComparisonService.CHUNK_SIZE + 1, new ComparisonOption(0, 1000L));
+
+        LargeComparisonResponse response = service.compare(request(6000L, options), 0, 10);
+
+        assertNull(response.getRecommendedOption());
+        assertEquals(2, response.getMinCostOptionCount());
+        assertEquals(2, response.getResults().get(0).getOptionNumber());
+        assertEquals(LargeComparisonService.CHUNK_SIZE + 2, response.getResults().get(1).getOptionNumber());
+    }
+
+    @Test
+    @DisplayName("유일한 최소 비용 선택지 추천 및 비용 분해")
+    void testCompare_Recommendation() {
+        List<ComparisonOption> options = List.of(
+            new ComparisonOption(10, 3000L),
+            new ComparisonOption(40, 2300L),
+            new ComparisonOption(0, 8000L));
+
+        LargeComparisonResponse response = service.compare(request(15000L, options), 0, 100);
+
+        assertEquals(1, response.getRecommendedOption());
+        OptionResult best = response.getResults().get(0);
+        assertEquals("선택지 A", best.getOptionName());
+        assertEquals(3000L, best.getBreakdown().getDirectCost());
+        assertEquals(2500L, best.getBreakdown().getTimeCost());
+        assertEquals(5500L, best.getBreakdown().getTotalCost());
+    }
+
+    @Test
+    @DisplayName("26개를 넘는 선택지 이름은 번호로 표시")
+    void testCompare_OptionNamesBeyond26() {
+        List<ComparisonOption> options = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            options.add(new ComparisonOption(0, (long) i));
+        }
+
+        List<OptionResult> results = service.compare(request(10000L, options), 0, 30).getResults();
+
+        assertEquals("선택지 Z", results.get(25).getOptionName());
+        assertEquals("선택지 27", results.get(26).getOptionName());
+        assertEquals("선택지 30", results.get(29).getOptionName());
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 페이지는 빈 결과, 잘못된 페이지 인자는 오류")
+    void testCompare_Paging() {
+        List<ComparisonOption> options = randomOptions(10, 1L);
+
+        LargeComparisonResponse lastPage = service.compare(request(10000L, options), 1, 7);
+        assertEquals(3, lastPage.getResults().size());
+        assertTrue(service.compare(request(10000L, options), 5, 7).getResults().isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> service.compare(request(10000L, options), -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> service.compare(request(10000L, options), 0, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> service.compare(request(10000L, options), 0, LargeComparisonService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("병렬 구간에서 발생한 오버플로우는 입력 오류로 변환")
+    void testCompare_OverflowInChunk() {
+        List<ComparisonOption> options = randomOptions(LargeComparisonService.CHUNK_SIZE * 2, 7L);
+        options.set(LargeComparisonService.CHUNK_SIZE + 3, new ComparisonOption(10_080, 100_000_000L));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> service.compare(request(Long.MAX_VALUE / 1000, options), 0, 10));
+        assertEquals("계산 결과가 범위를 초과했습니다. 입력값을 확인해주세요.", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("순위 조건 - 상한 이하 선택지 중 topK만 순위에 포함하고 그 안에서 페이지 분할")
+    void testCompare_RankingFilter() {
+        long hourlyWage = 6000L;
+        List<ComparisonOption> options = randomOptions(2 * LargeComparisonService.CHUNK_SIZE + 5, 9L);
+        long[] totals = options.stream()
+            .mapToLong(o -> o.getDirectCost() + OpportunityCostService.calculateTimeCost(hourlyWage, o.getTimeMinutes()))
+            .toArray();
+        long min = IntStream.range(0, totals.length).mapToLong(i -> totals[i]).min().orElseThrow();
+        int[] expected = IntStream.range(0, totals.length).boxed()
+            .filter(i -> totals[i] <= 300L && totals[i] - min <= 250L)
+            .sorted(rankingOrder(options, hourlyWage))
+            .mapToInt(Integer::intValue)
+            .toArray();
+
+        LargeComparisonResponse filtered = service.compare(request(hourlyWage, options), 0, 1000,
+            new RankingFilter(null, 300L, 250L));
+        assertEquals(expected.length, filtered.getMatchedOptions());
+        assertEquals(Math.min(expected.length, 1000), filtered.getResults().size());
+        for (int r = 0; r < filtered.getResults().size(); r++) {
+            assertEquals(expected[r] + 1, filtered.getResults().get(r).getOptionNumber());
+            assertTrue(filtered.getResults().get(r).getBreakdown().getTotalCost() <= 300L);
+        }
+
+        LargeComparisonResponse top = service.compare(request(hourlyWage, options), 1, 3,
+            new RankingFilter(5, 300L, null));
+        assertEquals(5, top.getMatchedOptions());
+        assertEquals(2, top.getResults().size());
+        assertEquals(totals.length, top.getTotalOptions());
+    }
+}
@@ -3,11 +3,16 @@ package com.opportunitycost.service;
 import com.opportunitycost.dto.CalculationRequest;
 import com.opportunitycost.dto.CalculationResponse;
 import com.opportunitycost.dto.CostBreakdown;
+import com.opportunitycost.dto.MultiComparisonRequest;
+import com.opportunitycost.dto.MultiComparisonResponse;
 import com.opportunitycost.model.ComparisonOption;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -16,11 +21,12 @@ import static org.junit.jupiter.api.Assertions.*;
 class OpportunityCostServiceTest {
 
     private OpportunityCostService service;
+    private CalculationCacheService cacheService;
 
     @BeforeEach
     void setUp() {
         // 캐시 서비스는 인메모리 구현이므로 테스트에서 직접 생성하여 주입
-        CalculationCacheService cacheService = new CalculationCacheService();
+        cacheService = new CalculationCacheService();
         service = new OpportunityCostService(cacheService);
     }
 
@@ -302,4 +308,186 @@ class OpportunityCostServiceTest {
         assertEquals(0L, optionA.getTimeCost());
         assertEquals(1000L, optionA.getTotalCost());
     }
+
+    @Test
+    @DisplayName("다안 비교 캐시 동작 테스트 - 동일 요청은 캐시에서 반환")
+    void testCalculateMulti_CacheWorks() {
+        // Given
+        MultiComparisonRequest request = new MultiComparisonRequest();
+        request.setHourlyWage(15000L);
+        request.setOptions(List.of(
+            new ComparisonOption(10, 3000L),
+            new ComparisonOption(40, 2300L),
+            new ComparisonOption(0, 8000L)
+        ));
+
+        // When
+        MultiComparisonResponse response1 = service.calculateMulti(request);
+        MultiComparisonResponse response2 = service.calculateMulti(request);
+
+        // Then - 두 번째 호출은 캐시 히트이며 2안 비교 캐시와 별도로 집계됨
+        assertSame(response1, response2);
+        assertEquals(1, cacheService.getMultiCacheStats().hitCount());
+        assertEquals(1, cacheService.getMultiCacheStats().missCount());
+        assertEquals(0, cacheService.getCacheStats().requestCount());
+    }
+
+    @Test
+    @DisplayName("다안 비교 캐시 - 선택지 순서가 다르면 별도 계산")
+    void testCalculateMulti_OptionOrderMatters() {
+        // Given
+        MultiComparisonRequest request1 = new MultiComparisonRequest();
+        request1.setHourlyWage(15000L);
+        request1.setOptions(List.of(
+            new ComparisonOption(10, 3000L),
+            new ComparisonOption(40, 2300L),
+            new ComparisonOption(0, 8000L)
+        ));
+        MultiComparisonRequest request2 = new MultiComparisonRequest();
+        request2.setHourlyWage(15000L);
+        request2.setOptions(List.of(
+            new ComparisonOption(40, 2300L),
+            new ComparisonOption(10, 3000L),
+            new ComparisonOption(0, 8000L)
+        ));
+
+        // When
+        MultiComparisonResponse response1 = service.calculateMulti(request1);
+        MultiComparisonResponse response2 = service.calculateMulti(request2);
+
+        // Then - 추천 선택지 번호가 입력 순서를 따름
+        assertEquals(1, response1.getRecommendedOption());
+        assertEquals(2, response2.getRecommendedOption());
+        assertEquals(2, cacheService.getMultiCacheSize());
+    }
+
+    @Test
+    @DisplayName("다안 비교 순위 조건 - topK, 총 비용 상한, 최저 비용과의 차액 상한")
+    void testApplyFilter() {
+        // Given - 총 비용: A 5,500원, B 12,300원, C 8,000원
+        MultiComparisonRequest request = new MultiComparisonRequest();
+        request.setHourlyWage(15000L);
+        request.setOptions(List.of(
+            new ComparisonOption(10, 3000L),
+            new ComparisonOption(40, 2300L),
+            new ComparisonOption(0, 8000L)
+        ));
+        MultiComparisonResponse response = service.calculateMulti(request);
+
+        // When
+        MultiComparisonResponse top1 = service.applyFilter(response, new RankingFilter(1, null, null));
+        MultiComparisonResponse underBudget = service.applyFilter(response, new RankingFilter(null, 8000L, null));
+        MultiComparisonResponse nearBest = service.applyFilter(response, new RankingFilter(null, null, 2000L));
+        MultiComparisonResponse none = service.applyFilter(response, new RankingFilter(null, 1000L, null));
+
+        // Then - 순위 조건은 결과 목록에만 적용되고 통계와 캐시된 원본은 그대로 유지
+        assertEquals(List.of(1), top1.getResults().stream().map(r -> r.getOptionNumber()).toList());
+        assertEquals(List.of(1, 3), underBudget.getResults().stream().map(r -> r.getOptionNumber()).toList());
+        assertEquals(List.of(1), nearBest.getResults().stream().map(r -> r.getOptionNumber()).toList());
+        assertTrue(none.getResults().isEmpty());
+        assertEquals(1, none.getRecommendedOption());
+        assertEquals(12300L, none.getMaxTotalCost());
+        assertEquals(3, response.getResults().size());
+        assertSame(response, service.applyFilter(response, RankingFilter.NONE));
+        assertThrows(IllegalArgumentException.class, () -> new RankingFilter(0, null, null));
+        assertThrows(IllegalArgumentException.class, () -> new RankingFilter(null, -1L, null));
+    }
+
+    @Test
+    @DisplayName("계산식 설명은 시급별로 한 번만 생성")
+    void testGenerateFormula_CachedPerWage() {
+        // When
+        String formula1 = service.generateFormula(15000L);
+        String formula2 = service.generateFormula(15000L);
+        String formula3 = service.generateFormula(20000L);
+
+        // Then - 같은 시급은 동일 인스턴스, 다른 시급은 다른 내용
+        assertSame(formula1, formula2);
+        assertTrue(formula1.contains("15,000원/시간"));
+        assertTrue(formula3.contains("20,000원/시간"));
+    }
+
+    @Test
+    @DisplayName("정수 연산 - 나누어떨어지는 경우 정확한 시간 비용")
+    void testCalculate_ExactIntegerTimeCost() {
+        // Given: 11원/시간 × 300분 = 3,300 / 60 = 55원 (double 연산은 54원으로 내림됨)
+        CalculationRequest request = new CalculationRequest();
+        request.setHourlyWage(11L);
+        request.setOptionA(new ComparisonOption(300, 0L));
+        request.setOptionB(new ComparisonOption(0, 0L));
+
+        // When
+        CalculationResponse response = service.calculate(request);
+
+        // Then
+        assertEquals(55L, response.getOptionA().getTimeCost());
+    }
+
+    @Test
+    @DisplayName("정수 연산 - 입력 상한(시급 1억원 × 10,080분)에서도 정확")
+    void testCalculateTimeCost_UpperBound() {
+        assertEquals(16_800_000_000L, OpportunityCostService.calculateTimeCost(100_000_000L, 10_080));
+        assertEquals(0L, OpportunityCostService.calculateTimeCost(100_000_000L, 0));
+        assertEquals(0L, OpportunityCostService.calculateTimeCost(59L, 1));
+    }
+
+    @Test
+    @DisplayName("정수 연산 - 기존 double 연산과의 차이는 정수로 나누어떨어질 때의 1원 내림 오차뿐")
+    void testCalculateTimeCost_MatchesDoubleExceptExactMultiples() {
+        Random random = new Random(20260212L);
+        for (int i = 0; i < 2_000_000; i++) {
+            long hourlyWage = i < 1_000_000 ? 1 + (i % 6_000) : 1 + random.nextInt(100_000_000);
+            int timeMinutes = random.nextInt(10_081);
+
+            long exact = OpportunityCostService.calculateTimeCost(hourlyWage, timeMinutes);
+            long legacy = (long) Math.floor((hourlyWage / 60.0) * timeMinutes);
+
+            // 정수 연산 결과는 항상 수학적 floor(W × T / 60)
+            assertTrue(exact * 60 <= hourlyWage * timeMinutes && hourlyWage * timeMinutes < (exact + 1) * 60);
+            if (exact != legacy) {
+                assertEquals(0, (hourlyWage * timeMinutes) % 60, hourlyWage + "원 × " + timeMinutes + "분");
+                assertEquals(exact - 1, legacy, hourlyWage + "원 × " + timeMinutes + "분");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("정수 연산 - 오버플로우는 입력 오류로 처리")
+    void testCalculate_OverflowRejected() {
+        // Given: 서비스를 직접 호출하여 검증 범위를 벗어난 값 전달
+        CalculationRequest request = new CalculationRequest();
+        request.setHourlyWage(15000L);
+        request.setOptionA(new ComparisonOption(10, Long.MAX_VALUE));
+        request.setOptionB(new ComparisonOption(0, 0L));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> service.calculate(request));
+        assertThrows(ArithmeticException.class,
+            () -> OpportunityCostService.calculateTimeCost(Long.MAX_VALUE, 2));
+    }
+
+    @Test
+    @DisplayName("다안 비교 - 최소 비용 동률이면 추천 없음, 동률은 입력 순서 유지")
+    void testCalculateMulti_TiedMinimum() {
+        // Given: 선택지 2, 3 모두 총 비용 2,000원
+        MultiComparisonRequest request = new MultiComparisonRequest();
+        request.setHourlyWage(10000L);
+        request.setOptions(List.of(
+            new ComparisonOption(30, 1000L),
+            new ComparisonOption(6, 1000L),
+            new ComparisonOption(0, 2000L)
+        ));
+
+        // When
+        MultiComparisonResponse response = service.calculateMulti(request);
+
+        // Then
+        assertNull(response.getRecommendedOption());
+        assertEquals(2, response.getResults().get(0).getOptionNumber());
+        assertEquals(3, response.getResults().get(1).getOptionNumber());
+        assertEquals("선택지 A", response.getResults().get(2).getOptionName());
+        assertEquals(2000L, response.getMinTotalCost());
+        assertEquals(6000L, response.getMaxTotalCost());
+        assertEquals(4000L, response.getMaxDifference());
+    }
 }
@@ -0,0 +1,258 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.CheapestOptionResponse;
+import com.opportunitycost.dto.LargeComparisonResponse;
+import com.opportunitycost.dto.OptionSetRequest;
+import com.opportunitycost.dto.OptionSetResponse;
+import com.opportunitycost.exception.OptionSetNotFoundException;
+import com.opportunitycost.model.ComparisonOption;
+import com.opportunitycost.repository.OptionSetRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 선택지 묶음 등록/조회 서비스 테스트
+ */
+class OptionSetServiceTest {
+
+    private EmbeddedDatabase database;
+    private OptionSetRepository repository;
+    private OptionSetService service;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .addScript("schema.sql")
+            .build();
+        repository = new OptionSetRepository(new JdbcTemplate(database));
+        LargeComparisonService largeComparisonService = new LargeComparisonService(
+            new OpportunityCostService(new CalculationCacheService()), Runnable::run);
+        service = new OptionSetService(repository, largeComparisonService, 3, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private static OptionSetRequest request(List<ComparisonOption> options) {
+        OptionSetRequest request = new OptionSetRequest();
+        request.setOptions(options);
+        return request;
+    }
+
+    @Test
+    @DisplayName("등록 후 시급별 최저 비용 선택지 조회")
+    void testFindCheapest() {
+        // A: 10분/3,000원, B: 40분/2,300원, C: 0분/8,000원, D: B보다 항상 비쌈
+        OptionSetResponse registered = service.register(request(List.of(
+            new ComparisonOption(10, 3000L),
+            new ComparisonOption(40, 2300L),
+            new ComparisonOption(0, 8000L),
+            new ComparisonOption(40, 2400L)
+        )));
+
+        // 손익분기 시급: B→A 1,400원, A→C 30,000원
+        assertEquals(4, registered.getOptionCount());
+        assertEquals(3, registered.getCandidateCount());
+        assertEquals(2, service.findCheapest(registered.getId(), 1_000L).getCheapestOption());
+        assertEquals(1, service.findCheapest(registered.getId(), 1_400L).getCheapestOption());
+        assertEquals(1, service.findCheapest(registered.getId(), 29_999L).getCheapestOption());
+        assertEquals(3, service.findCheapest(registered.getId(), 30_001L).getCheapestOption());
+
+        CheapestOptionResponse response = service.findCheapest(registered.getId(), 15_000L);
+        assertEquals("선택지 A", response.getOptionName());
+        assertEquals(2_500L, response.getBreakdown().getTimeCost());
+        assertEquals(5_500L, response.getBreakdown().getTotalCost());
+    }
+
+    @Test
+    @DisplayName("포락선 조회 결과가 전수 비교와 일치 (연속 모델 기준 최저 비용)")
+    void testFindCheapest_MatchesBruteForce() {
+        Random random = new Random(5L);
+        List<ComparisonOption> options = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            options.add(new ComparisonOption(random.nextInt(10_081), (long) random.nextInt(100_000_001)));
+        }
+        long id = service.register(request(options)).getId();
+
+        for (int i = 0; i < 2_000; i++) {
+            long wage = 1 + random.nextInt(1_000_000);
+            int cheapest = service.findCheapest(id, wage).getCheapestOption() - 1;
+            long best = options.stream()
+                .mapToLong(o -> o.getDirectCost() * 60 + o.getTimeMinutes() * wage)
+                .min().orElseThrow();
+            ComparisonOption option = options.get(cheapest);
+            assertEquals(best, option.getDirectCost() * 60 + option.getTimeMinutes() * wage);
+        }
+    }
+
+    @Test
+    @DisplayName("손익분기 시급에서도 최저 비용 선택지가 전체 순위 1위와 일치")
+    void testFindCheapest_MatchesRankingAtBreakEven() {
+        // 긴 선택지를 앞에 두어 입력 순서만으로 동점을 정하면 결과가 달라지도록 함
+        long fixed = service.register(request(List.of(
+            new ComparisonOption(40, 2300L),
+            new ComparisonOption(40, 2300L),
+            new ComparisonOption(10, 3000L),
+            new ComparisonOption(0, 8000L),
+            new ComparisonOption(10, 3000L)
+        ))).getId();
+        for (long wage : new long[] {1_399L, 1_400L, 1_401L, 29_999L, 30_000L, 30_001L}) {
+            assertEquals(service.findCheapest(fixed, wage).getCheapestOption(),
+                service.rank(fixed, wage, 0, 1, RankingFilter.NONE).getResults().get(0).getOptionNumber());
+        }
+        assertEquals(3, service.findCheapest(fixed, 1_400L).getCheapestOption());
+        assertEquals(4, service.findCheapest(fixed, 30_000L).getCheapestOption());
+
+        // 좁은 범위의 선택지로 두 선택지씩 만나는 정수 손익분기 시급을 모두 확인
+        Random random = new Random(11L);
+        List<ComparisonOption> options = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            options.add(new ComparisonOption(random.nextInt(60), (long) random.nextInt(500)));
+        }
+        long id = service.register(request(options)).getId();
+        for (ComparisonOption a : options) {
+            for (ComparisonOption b : options) {
+                long slower = a.getTimeMinutes() - b.getTimeMinutes();
+                long saving = (b.getDirectCost() - a.getDirectCost()) * 60;
+                if (slower <= 0 || saving <= 0 || saving % slower != 0) {
+                    continue;
+                }
+                long wage = saving / slower;
+                assertEquals(service.findCheapest(id, wage).getCheapestOption(),
+                    service.rank(id, wage, 0, 1, RankingFilter.NONE).getResults().get(0).getOptionNumber(),
+                    "시급 " + wage);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("없는 묶음 조회/삭제 및 등록 수 제한")
+    void testNotFoundAndLimit() {
+        List<ComparisonOption> options = List.of(new ComparisonOption(10, 3000L), new ComparisonOption(40, 2300L));
+        long id = service.register(request(options)).getId();
+        service.register(request(options));
+        service.register(request(options));
+
+        assertThrows(IllegalArgumentException.class, () -> service.register(request(options)));
+        assertThrows(IllegalArgumentException.class, () -> service.findCheapest(id, 0L));
+
+        service.delete(id);
+        assertThrows(OptionSetNotFoundException.class, () -> service.findCheapest(id, 15_000L));
+        assertThrows(OptionSetNotFoundException.class, () -> service.delete(id));
+        service.register(request(options));
+    }
+
+    @Test
+    @DisplayName("동시 등록도 등록 수 제한을 넘지 않음")
+    void testConcurrentRegisterLimit() throws Exception {
+        List<ComparisonOption> options = List.of(new ComparisonOption(10, 3000L), new ComparisonOption(40, 2300L));
+        int attempts = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                results.add(executor.submit(() -> {
+                    assertTrue(start.await(5, TimeUnit.SECONDS));
+                    try {
+                        service.register(request(options));
+                        return true;
+                    } catch (IllegalArgumentException ex) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int registered = 0;
+            for (Future<Boolean> result : results) {
+                registered += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            assertEquals(3, registered);
+            assertEquals(3, repository.count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("조회와 동시에 삭제해도 삭제 후에는 캐시에 남지 않음")
+    void testConcurrentDeleteThenGet() throws Exception {
+        List<ComparisonOption> options = List.of(new ComparisonOption(10, 3000L), new ComparisonOption(40, 2300L));
+        int readers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            for (int round = 0; round < 50; round++) {
+                long id = service.register(request(options)).getId();
+                CountDownLatch reading = new CountDownLatch(readers);
+                List<Future<?>> results = new ArrayList<>();
+                for (int i = 0; i < readers; i++) {
+                    results.add(executor.submit(() -> {
+                        reading.countDown();
+                        try {
+                            while (true) {
+                                service.findCheapest(id, 15_000L);
+                            }
+                        } catch (OptionSetNotFoundException ex) {
+                            return null;
+                        }
+                    }));
+                }
+                assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+                service.delete(id);
+                assertThrows(OptionSetNotFoundException.class, () -> service.findCheapest(id, 15_000L));
+                for (Future<?> result : results) {
+                    result.get(10, TimeUnit.SECONDS);
+                }
+                assertThrows(OptionSetNotFoundException.class, () -> service.findCheapest(id, 15_000L));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("캐시에서 밀려난 묶음은 저장소에서 다시 읽어 같은 결과를 반환")
+    void testReloadFromRepository() {
+        long first = service.register(request(List.of(
+            new ComparisonOption(10, 3000L), new ComparisonOption(40, 2300L), new ComparisonOption(0, 8000L)))).getId();
+        long second = service.register(request(List.of(
+            new ComparisonOption(30, 1000L), new ComparisonOption(5, 4000L)))).getId();
+
+        // 캐시 선택지 수 3: 두 번째 등록(선택지 2개)으로 첫 번째 묶음(3개)이 밀려남
+        assertEquals(2, repository.count());
+        assertEquals(2, service.findCheapest(first, 1_000L).getCheapestOption());
+        assertEquals(3, service.findCheapest(first, 30_001L).getCheapestOption());
+        assertEquals(1, service.findCheapest(second, 1_000L).getCheapestOption());
+
+        // 저장된 묶음 전체 순위 (대량 다안 비교와 같은 응답)
+        LargeComparisonResponse ranking = service.rank(first, 15_000L, 0, 2, RankingFilter.NONE);
+        assertEquals(3, ranking.getTotalOptions());
+        assertEquals(2, ranking.getResults().size());
+        assertEquals(1, ranking.getResults().get(0).getOptionNumber());
+        assertEquals(5_500L, ranking.getMinTotalCost());
+        assertEquals(12_300L, ranking.getMaxTotalCost());
+    }
+}
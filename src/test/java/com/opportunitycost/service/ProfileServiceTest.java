@@ -0,0 +1,126 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.ProfileRequest;
+import com.opportunitycost.exception.ProfileNotFoundException;
+import com.opportunitycost.model.WageProfile;
+import com.opportunitycost.repository.WageProfileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 시급 프로필 서비스 테스트
+ */
+class ProfileServiceTest {
+
+    private EmbeddedDatabase database;
+    private WageProfileRepository repository;
+    private ProfileService service;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .addScript("schema.sql")
+            .build();
+        repository = new WageProfileRepository(new JdbcTemplate(database));
+        service = new ProfileService(repository, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private static ProfileRequest request(String name, long hourlyWage) {
+        ProfileRequest request = new ProfileRequest();
+        request.setName(name);
+        request.setHourlyWage(hourlyWage);
+        return request;
+    }
+
+    @Test
+    @DisplayName("프로필 저장 후 조회 (캐시와 저장소 모두 같은 값)")
+    void testCreateAndGet() {
+        WageProfile created = service.create(request("평일", 15_000L));
+
+        assertEquals(created, service.get(created.getId()));
+        assertEquals(created, repository.findById(created.getId()));
+        assertEquals(15_000L, new ProfileService(repository, 100).get(created.getId()).getHourlyWage());
+    }
+
+    @Test
+    @DisplayName("시급 또는 프로필 ID 중 하나로 시급 결정")
+    void testResolveWage() {
+        long id = service.create(request(null, 20_000L)).getId();
+
+        assertEquals(20_000L, service.resolveWage(id, null));
+        assertEquals(9_860L, service.resolveWage(null, 9_860L));
+        assertThrows(IllegalArgumentException.class, () -> service.resolveWage(id, 9_860L));
+        assertThrows(IllegalArgumentException.class, () -> service.resolveWage(null, null));
+        assertThrows(IllegalArgumentException.class, () -> service.resolveWage(null, 0L));
+    }
+
+    @Test
+    @DisplayName("삭제한 프로필은 조회/삭제 시 없음 처리")
+    void testDelete() {
+        long id = service.create(request("주말", 30_000L)).getId();
+
+        service.delete(id);
+        assertThrows(ProfileNotFoundException.class, () -> service.get(id));
+        assertThrows(ProfileNotFoundException.class, () -> service.resolveWage(id, null));
+        assertThrows(ProfileNotFoundException.class, () -> service.delete(id));
+    }
+
+    @Test
+    @DisplayName("조회와 동시에 삭제해도 삭제 후에는 캐시에 남지 않음")
+    void testConcurrentDeleteThenGet() throws Exception {
+        int readers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            for (int round = 0; round < 50; round++) {
+                long id = service.create(request("동시", 12_000L)).getId();
+                CountDownLatch reading = new CountDownLatch(readers);
+                List<Future<?>> results = new ArrayList<>();
+                for (int i = 0; i < readers; i++) {
+                    results.add(executor.submit(() -> {
+                        reading.countDown();
+                        try {
+                            while (true) {
+                                service.get(id);
+                            }
+                        } catch (ProfileNotFoundException ex) {
+                            return null;
+                        }
+                    }));
+                }
+                assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+                service.delete(id);
+                assertThrows(ProfileNotFoundException.class, () -> service.get(id));
+                for (Future<?> result : results) {
+                    result.get(10, TimeUnit.SECONDS);
+                }
+                assertThrows(ProfileNotFoundException.class, () -> service.get(id));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
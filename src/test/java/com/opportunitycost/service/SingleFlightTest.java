@@ -0,0 +1,154 @@
+package com.opportunitycost.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 동시 계산 병합 테스트
+ */
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 8;
+
+    @Test
+    @DisplayName("계산 중인 같은 키의 요청은 계산 없이 같은 결과를 받음")
+    void testExecute_CoalescesConcurrentCalls() throws Exception {
+        SingleFlight<String, Object> singleFlight = new SingleFlight<>("test");
+        AtomicInteger calculations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object result = new Object();
+
+        ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+        try {
+            Future<Object> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                calculations.incrementAndGet();
+                started.countDown();
+                await(release);
+                return result;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            List<Future<Object>> followers = new ArrayList<>();
+            for (int i = 0; i < FOLLOWERS; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                    calculations.incrementAndGet();
+                    return new Object();
+                })));
+            }
+            // 모든 요청이 진행 중인 계산에 합류한 뒤 계산 완료
+            while (singleFlight.coalescedCount() < FOLLOWERS) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertSame(result, leader.get(5, TimeUnit.SECONDS));
+            for (Future<Object> follower : followers) {
+                assertSame(result, follower.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, calculations.get());
+        assertEquals(FOLLOWERS, singleFlight.coalescedCount());
+
+        // 계산이 끝난 키는 보관하지 않으므로 다음 요청은 새로 계산
+        assertNotSame(result, singleFlight.execute("key", Object::new));
+    }
+
+    @Test
+    @DisplayName("계산 중 예외는 합류한 요청에도 같은 예외로 전달")
+    void testExecute_PropagatesException() throws Exception {
+        SingleFlight<String, Object> singleFlight = new SingleFlight<>("test");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                started.countDown();
+                await(release);
+                throw new IllegalArgumentException("계산 결과가 범위를 초과했습니다.");
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<Object> follower = executor.submit(() -> singleFlight.execute("key", Object::new));
+            while (singleFlight.coalescedCount() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            for (Future<Object> call : List.of(leader, follower)) {
+                Exception ex = assertThrows(Exception.class, () -> call.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("비동기 실행 - 계산 중인 같은 키의 요청은 스레드를 막지 않고 미완료 결과를 바로 받음")
+    void testExecuteAsync_DoesNotBlockFollowers() throws Exception {
+        SingleFlight<String, Object> singleFlight = new SingleFlight<>("test");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object result = new Object();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<CompletableFuture<Object>> leader = executor.submit(() -> singleFlight.executeAsync("key", () -> {
+                started.countDown();
+                await(release);
+                return result;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // 호출한 스레드에서 계산하지 않고 바로 반환
+            CompletableFuture<Object> follower = singleFlight.executeAsync("key", () -> {
+                throw new AssertionError("진행 중인 계산이 있으면 다시 계산하지 않음");
+            });
+            assertFalse(follower.isDone());
+
+            // 기다리는 쪽의 취소는 진행 중인 계산에 영향 없음
+            singleFlight.executeAsync("key", Object::new).cancel(true);
+
+            release.countDown();
+            assertSame(result, follower.get(5, TimeUnit.SECONDS));
+            assertSame(result, leader.get(5, TimeUnit.SECONDS).get());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(2, singleFlight.coalescedCount());
+
+        // 진행 중인 계산이 없으면 바로 계산, 예외는 실패한 결과로 전달
+        CompletableFuture<Object> failed = singleFlight.executeAsync("key", () -> {
+            throw new IllegalArgumentException("계산 결과가 범위를 초과했습니다.");
+        });
+        assertTrue(failed.isCompletedExceptionally());
+        ExecutionException ex = assertThrows(ExecutionException.class, failed::get);
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
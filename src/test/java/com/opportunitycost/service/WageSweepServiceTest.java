@@ -0,0 +1,136 @@
+package com.opportunitycost.service;
+
+import com.opportunitycost.dto.BreakEvenPoint;
+import com.opportunitycost.dto.CostCurvePoint;
+import com.opportunitycost.dto.WageSegment;
+import com.opportunitycost.dto.WageSweepRequest;
+import com.opportunitycost.dto.WageSweepResponse;
+import com.opportunitycost.model.ComparisonOption;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 시급 구간 분석 서비스 테스트
+ */
+class WageSweepServiceTest {
+
+    private WageSweepService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new WageSweepService();
+    }
+
+    private static WageSweepRequest request(List<ComparisonOption> options, long minWage, long maxWage, Integer samples) {
+        WageSweepRequest request = new WageSweepRequest();
+        request.setOptions(options);
+        request.setMinWage(minWage);
+        request.setMaxWage(maxWage);
+        request.setSamples(samples);
+        return request;
+    }
+
+    @Test
+    @DisplayName("2안 손익분기 시급 = 60 × 직접 비용 차이 ÷ 소요 시간 차이")
+    void testSweep_TwoOptions() {
+        // 60 × (3,000 - 2,300) ÷ (40 - 10) = 1,400원/시간
+        List<ComparisonOption> options = List.of(new ComparisonOption(10, 3000L), new ComparisonOption(40, 2300L));
+
+        WageSweepResponse response = service.sweep(request(options, 1_000L, 20_000L, 3));
+
+        assertEquals(1, response.getBreakEvenPoints().size());
+        BreakEvenPoint point = response.getBreakEvenPoints().get(0);
+        assertEquals(1400.0, point.getWage());
+        assertEquals(2, point.getFromOption());
+        assertEquals(1, point.getToOption());
+
+        List<WageSegment> segments = response.getSegments();
+        assertEquals(2, segments.size());
+        assertEquals(new WageSegment(1_000L, 1_399L, 2, "선택지 B"), segments.get(0));
+        assertEquals(new WageSegment(1_400L, 20_000L, 1, "선택지 A"), segments.get(1));
+
+        // 곡선은 계산 API와 같은 정수 연산
+        List<CostCurvePoint> curve = response.getCurve();
+        assertEquals(3, curve.size());
+        assertEquals(10_500L, curve.get(1).getWage());
+        assertArrayEquals(new long[] {4_750L, 9_300L}, curve.get(1).getTotalCosts());
+        assertEquals(1, curve.get(1).getCheapestOption());
+    }
+
+    @Test
+    @DisplayName("범위 안에 손익분기점이 없으면 구간 하나")
+    void testSweep_NoBreakEvenInRange() {
+        List<ComparisonOption> options = List.of(new ComparisonOption(10, 3000L), new ComparisonOption(40, 2300L));
+
+        WageSweepResponse response = service.sweep(request(options, 5_000L, 6_000L, null));
+
+        assertTrue(response.getBreakEvenPoints().isEmpty());
+        assertEquals(List.of(new WageSegment(5_000L, 6_000L, 1, "선택지 A")), response.getSegments());
+        assertTrue(response.getCurve().isEmpty());
+    }
+
+    @Test
+    @DisplayName("여러 선택지 - 구간별 최저 비용 선택지가 모든 정수 시급에서 전수 계산과 일치")
+    void testSweep_MatchesBruteForce() {
+        Random random = new Random(17L);
+        for (int round = 0; round < 50; round++) {
+            List<ComparisonOption> options = new ArrayList<>();
+            int count = 2 + random.nextInt(30);
+            for (int i = 0; i < count; i++) {
+                options.add(new ComparisonOption(random.nextInt(200), (long) random.nextInt(20_000)));
+            }
+            long minWage = 1 + random.nextInt(2_000);
+            long maxWage = minWage + random.nextInt(20_000);
+
+            WageSweepResponse response = service.sweep(request(options, minWage, maxWage, null));
+
+            // 구간이 범위를 빈틈없이 덮고, 각 시급에서 구간의 선택지가 연속 모델 기준 최저 비용
+            long expectedFrom = minWage;
+            for (WageSegment segment : response.getSegments()) {
+                assertEquals(expectedFrom, segment.getFromWage());
+                for (long wage = segment.getFromWage(); wage <= segment.getToWage(); wage++) {
+                    assertEquals(minScaledCost(options, wage),
+                        scaledCost(options.get(segment.getCheapestOption() - 1), wage));
+                }
+                expectedFrom = segment.getToWage() + 1;
+            }
+            assertEquals(maxWage + 1, expectedFrom);
+
+            // 손익분기점에서는 두 선택지의 비용이 같음
+            for (BreakEvenPoint point : response.getBreakEvenPoints()) {
+                ComparisonOption from = options.get(point.getFromOption() - 1);
+                ComparisonOption to = options.get(point.getToOption() - 1);
+                double fromCost = from.getDirectCost() + point.getWage() / 60 * from.getTimeMinutes();
+                double toCost = to.getDirectCost() + point.getWage() / 60 * to.getTimeMinutes();
+                assertEquals(fromCost, toCost, 1e-6);
+                assertTrue(point.getWage() >= minWage && point.getWage() <= maxWage);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("최소 시급이 최대 시급보다 크면 입력 오류")
+    void testSweep_InvalidRange() {
+        List<ComparisonOption> options = List.of(new ComparisonOption(10, 3000L), new ComparisonOption(40, 2300L));
+
+        assertThrows(IllegalArgumentException.class, () -> service.sweep(request(options, 2_000L, 1_000L, null)));
+    }
+
+    /**
+     * 60 × 총 비용 (연속 모델, 정수)
+     */
+    private static long scaledCost(ComparisonOption option, long wage) {
+        return option.getDirectCost() * 60 + option.getTimeMinutes() * wage;
+    }
+
+    private static long minScaledCost(List<ComparisonOption> options, long wage) {
+        return options.stream().mapToLong(o -> scaledCost(o, wage)).min().orElseThrow();
+    }
+}